@@ -6,16 +6,31 @@ db.createCollection("users");
 db.createCollection("categories");
 db.createCollection("products");
 db.createCollection("orders");
+db.createCollection("reviews");
+db.createCollection("revoked_tokens");
 
 // Create indexes for better performance
 db.users.createIndex({ email: 1 }, { unique: true });
+db.users.createIndex({ name: 1, _id: 1 });
 db.categories.createIndex({ name: 1 }, { unique: true });
+db.categories.createIndex({ parentId: 1 });
+db.categories.createIndex({ ancestors: 1 });
 db.products.createIndex({ name: "text", description: "text" });
-db.products.createIndex({ "category.id": 1 });
+db.products.createIndex({ "category._id": 1 });
+db.products.createIndex({ "category._id": 1, price: 1 }, { name: "category_price" });
+db.products.createIndex({ "category._id": 1, rating: -1 }, { name: "category_rating" });
+db.products.createIndex({ "category._id": 1, dateCreated: -1 }, { name: "category_dateCreated" });
+db.products.createIndex({ brand: 1, price: 1 }, { name: "brand_price" });
+db.products.createIndex({ brand: 1, rating: -1 }, { name: "brand_rating" });
+db.products.createIndex({ brand: 1, dateCreated: -1 }, { name: "brand_dateCreated" });
 db.products.createIndex({ isFeatured: 1 });
 db.orders.createIndex({ "user.id": 1 });
 db.orders.createIndex({ status: 1 });
 db.orders.createIndex({ dateOrdered: -1 });
+db.reviews.createIndex({ productId: 1, userId: 1 }, { unique: true });
+db.reviews.createIndex({ productId: 1, dateCreated: -1, _id: -1 });
+db.revoked_tokens.createIndex({ revokedAt: 1 });
+db.revoked_tokens.createIndex({ expiresAt: 1 }, { expireAfterSeconds: 0 });
 
 // Insert sample categories
 db.categories.insertMany([
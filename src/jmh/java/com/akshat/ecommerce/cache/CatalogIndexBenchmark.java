@@ -0,0 +1,165 @@
+package com.akshat.ecommerce.cache;
+
+import com.akshat.ecommerce.dto.request.ProductSearchCriteria;
+import com.akshat.ecommerce.model.CatalogVersion;
+import com.akshat.ecommerce.model.CategorySummary;
+import com.akshat.ecommerce.model.Product;
+import com.akshat.ecommerce.repository.CatalogVersionRepository;
+import com.akshat.ecommerce.repository.CatalogVersionRepositoryCustomImpl;
+import com.akshat.ecommerce.repository.ProductRepository;
+import com.akshat.ecommerce.repository.ProductRepositoryCustomImpl;
+import com.akshat.ecommerce.service.impl.CatalogVersionServiceImpl;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Catalog browsing served by the in-memory CatalogIndex against the Mongo queries
+ * ProductServiceImpl falls back to, for listing, one category and a filtered search.
+ * Needs a local MongoDB, BENCHMARK_MONGODB_URI points elsewhere. The benchmark
+ * database is dropped and seeded on every run.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CatalogIndexBenchmark {
+
+    private static final String DATABASE = "ecommerce_benchmark";
+    private static final int CATEGORIES = 50;
+    private static final String[] BRANDS = {"Acme", "Globex", "Initech", "Umbrella", "Hooli"};
+
+    @Param({"10000", "100000"})
+    public int products;
+
+    private MongoClient client;
+    private ProductRepository productRepository;
+    private CatalogIndex catalogIndex;
+
+    private final Pageable byPrice = PageRequest.of(2, 20, Sort.by("price"));
+    private final Pageable byRating = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "rating"));
+    private final List<String> category = List.of("category-7");
+    private final ProductSearchCriteria search = ProductSearchCriteria.builder()
+            .brand("Globex")
+            .minPrice(BigDecimal.valueOf(100))
+            .maxPrice(BigDecimal.valueOf(400))
+            .inStock(true)
+            .build();
+
+    @Setup(Level.Trial)
+    public void setUp() throws InterruptedException {
+        String uri = System.getenv("BENCHMARK_MONGODB_URI");
+        client = MongoClients.create(uri != null ? uri : "mongodb://localhost:27017");
+        MongoTemplate mongoTemplate = new MongoTemplate(client, DATABASE);
+        mongoTemplate.getDb().drop();
+
+        IndexOperations indexes = mongoTemplate.indexOps(Product.class);
+        new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(Product.class)
+                .forEach(indexes::createIndex);
+        mongoTemplate.insert(seed(products), Product.class);
+
+        MongoRepositoryFactory factory = new MongoRepositoryFactory(mongoTemplate);
+        productRepository = factory.getRepository(ProductRepository.class,
+                RepositoryFragments.just(new ProductRepositoryCustomImpl(mongoTemplate)));
+        CatalogVersionRepository catalogVersionRepository = factory.getRepository(CatalogVersionRepository.class,
+                RepositoryFragments.just(new CatalogVersionRepositoryCustomImpl(mongoTemplate)));
+        catalogVersionRepository.save(CatalogVersion.builder().id(CatalogVersion.CATALOG_ID).build());
+
+        catalogIndex = new CatalogIndex(productRepository, new CatalogVersionServiceImpl(catalogVersionRepository));
+        catalogIndex.load();
+        while (catalogIndex.findAll(byPrice).isEmpty()) {
+            Thread.sleep(50);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        catalogIndex.shutdown();
+        client.close();
+    }
+
+    @Benchmark
+    public Optional<?> indexListByPrice() {
+        return catalogIndex.findAll(byPrice);
+    }
+
+    @Benchmark
+    public Slice<Product> mongoListByPrice() {
+        return productRepository.findAllBy(byPrice);
+    }
+
+    @Benchmark
+    public Optional<?> indexCategoryByRating() {
+        return catalogIndex.findByCategoryIds(category, byRating);
+    }
+
+    @Benchmark
+    public Slice<Product> mongoCategoryByRating() {
+        return productRepository.findCardSliceByCategoryIdIn(category, byRating);
+    }
+
+    @Benchmark
+    public Optional<?> indexSearchByPrice() {
+        return catalogIndex.search(search, byPrice);
+    }
+
+    @Benchmark
+    public Slice<Product> mongoSearchByPrice() {
+        return productRepository.searchSlice(search, byPrice);
+    }
+
+    private static List<Product> seed(int count) {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        List<Product> seeded = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String categoryId = "category-" + random.nextInt(CATEGORIES);
+            seeded.add(Product.builder()
+                    .name("Product " + i)
+                    .description("Benchmark product " + i)
+                    .brand(BRANDS[random.nextInt(BRANDS.length)])
+                    .price(BigDecimal.valueOf(100 + random.nextInt(90_000), 2).multiply(BigDecimal.TEN))
+                    .category(new CategorySummary(categoryId, categoryId))
+                    .countInStock(random.nextInt(20))
+                    .rating(random.nextInt(51) / 10.0)
+                    .numReviews(random.nextInt(200))
+                    .isFeatured(false)
+                    .dateCreated(now.minusMinutes(i))
+                    .lastModified(now)
+                    .build());
+        }
+        return seeded;
+    }
+}
@@ -0,0 +1,84 @@
+package com.akshat.ecommerce.secuity;
+
+import com.akshat.ecommerce.cache.VerifiedTokenCache;
+import com.akshat.ecommerce.cache.VerifiedTokenCache.VerifiedToken;
+import com.akshat.ecommerce.config.AppConfig;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request JWT authentication cost. legacyTripleParse reproduces the previous
+ * filter: key and parser rebuilt on every call, the token parsed for the email,
+ * again for validateToken and once more for the expiry. singleParse is the
+ * current JwtUtil path on a cache miss, cachedVerification a VerifiedTokenCache hit.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtValidationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret-benchmark-secret";
+
+    private JwtUtil jwtUtil;
+    private VerifiedTokenCache verifiedTokenCache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", TimeUnit.HOURS.toMillis(1));
+        jwtUtil.init();
+        verifiedTokenCache = new VerifiedTokenCache(new AppConfig());
+        token = jwtUtil.generateToken("user@example.com", "64b7f0c2e4b0a1a2b3c4d5e6", false);
+    }
+
+    @Benchmark
+    public boolean legacyTripleParse() {
+        String email = legacyClaims(token).getSubject();
+        return legacyClaims(token).getSubject().equals(email)
+                && !legacyClaims(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public VerifiedToken singleParse() {
+        return verify(token);
+    }
+
+    @Benchmark
+    public VerifiedToken cachedVerification() {
+        return verifiedTokenCache.get(token, this::verify);
+    }
+
+    private VerifiedToken verify(String jwt) {
+        Claims claims = jwtUtil.extractAllClaims(jwt);
+        return new VerifiedToken(claims.getId(), claims.getSubject(), jwtUtil.toUserDetails(claims),
+                claims.getExpiration().getTime());
+    }
+
+    private static Claims legacyClaims(String jwt) {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(jwt)
+                .getBody();
+    }
+}
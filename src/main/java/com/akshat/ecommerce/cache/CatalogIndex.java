@@ -0,0 +1,401 @@
+package com.akshat.ecommerce.cache;
+
+import com.akshat.ecommerce.dto.request.ProductSearchCriteria;
+import com.akshat.ecommerce.event.ProductsChangedEvent;
+import com.akshat.ecommerce.model.Product;
+import com.akshat.ecommerce.repository.ProductRepository;
+import com.akshat.ecommerce.service.CatalogVersionService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * In-memory Catalog Index (optional, app.catalog-index.enabled)
+ * Design Pattern: Immutable Snapshot (copy-on-write), Observer Pattern (refresh on
+ * ProductsChangedEvent)
+ * Optimization: The whole catalog is held as one immutable snapshot of arrays
+ * presorted by every supported sort key, globally and per category. Readers page
+ * over the arrays without locks or Mongo round trips. Writes are coalesced on a
+ * single refresh thread that reloads only the changed products, merges them into
+ * copies of the affected arrays and swaps the snapshot reference; untouched
+ * category partitions are shared between versions. Writes on other nodes are
+ * picked up by polling the products version stamp and reloading in full.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.catalog-index", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogIndex {
+
+    private final ProductRepository productRepository;
+    private final CatalogVersionService catalogVersionService;
+
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalog-index-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Set<String> pendingIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean fullReloadPending = new AtomicBoolean(true);
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+    // Products version read before the last full load, and version bumps by this node since
+    private final AtomicLong localChanges = new AtomicLong();
+    private volatile long loadedVersion;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * @return empty while the index is still loading or when the sort is not one
+     *         the index keeps, callers then fall back to Mongo
+     */
+    public Optional<Page<Product>> findAll(Pageable pageable) {
+        return page(pageable, Snapshot::all, null);
+    }
+
+    /**
+     * A single category reads its own partition, a subtree scans the full view and
+     * filters on membership
+     */
+    public Optional<Page<Product>> findByCategoryIds(Collection<String> categoryIds, Pageable pageable) {
+        if (categoryIds.size() == 1) {
+            String categoryId = categoryIds.iterator().next();
+            return page(pageable, current -> current.byCategory().getOrDefault(categoryId, SortedViews.EMPTY), null);
+        }
+        Set<String> members = Set.copyOf(categoryIds);
+        return page(pageable, Snapshot::all, product -> members.contains(Snapshot.categoryId(product)));
+    }
+
+    public Optional<Page<Product>> search(ProductSearchCriteria criteria, Pageable pageable) {
+        List<String> categoryIds = criteria.getCategoryIds();
+        return page(pageable,
+                current -> categoryIds != null && categoryIds.size() == 1
+                        ? current.byCategory().getOrDefault(categoryIds.get(0), SortedViews.EMPTY)
+                        : current.all(),
+                toPredicate(criteria));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        requestRefresh();
+    }
+
+    @EventListener
+    public void onProductsChanged(ProductsChangedEvent event) {
+        localChanges.incrementAndGet();
+        if (event.isCatalogWide()) {
+            fullReloadPending.set(true);
+        } else {
+            pendingIds.addAll(event.getProductIds());
+        }
+        requestRefresh();
+    }
+
+    /**
+     * Every product write bumps the version once. Bumps beyond the ones made by this
+     * node, which are already applied incrementally, mean another node wrote and the
+     * index reloads. A bump racing a reload can at worst delay detection until the
+     * next remote write.
+     */
+    @Scheduled(fixedDelayString = "#{@appConfig.catalogIndex.pollIntervalMs}")
+    public void pollVersion() {
+        if (snapshot == null || fullReloadPending.get()) {
+            return;
+        }
+        long expected = loadedVersion + localChanges.get();
+        long version = catalogVersionService.getCurrentVersion().getProducts();
+        if (version > expected) {
+            log.debug("Products version moved past {} to {}, reloading catalog index", expected, version);
+            fullReloadPending.set(true);
+            requestRefresh();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    private Optional<Page<Product>> page(Pageable pageable, Function<Snapshot, SortedViews> source,
+            Predicate<Product> filter) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Optional.empty();
+        }
+        Optional<Sort.Order> order = singleOrder(pageable.getSort());
+        if (order.isEmpty()) {
+            return Optional.empty();
+        }
+        SortKey key = SortKey.of(order.get().getProperty());
+        if (key == null) {
+            return Optional.empty();
+        }
+
+        Product[] sorted = source.apply(current).get(key);
+        boolean descending = order.get().isDescending();
+        long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+        int size = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+
+        List<Product> content = new ArrayList<>(Math.min(size, sorted.length));
+        long matched = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            Product product = sorted[descending ? sorted.length - 1 - i : i];
+            if (filter != null && !filter.test(product)) {
+                continue;
+            }
+            if (matched >= offset && content.size() < size) {
+                content.add(product);
+            }
+            matched++;
+            if (filter == null && content.size() == size) {
+                // Unfiltered totals are known without scanning further
+                matched = sorted.length;
+                break;
+            }
+        }
+        return Optional.of(new PageImpl<>(content, pageable, matched));
+    }
+
+    private void requestRefresh() {
+        if (refreshScheduled.compareAndSet(false, true)) {
+            refresher.execute(this::refresh);
+        }
+    }
+
+    /**
+     * Applies everything pending since the last run. The scheduled flag is cleared
+     * before draining, so changes arriving during a refresh schedule another one.
+     */
+    private void refresh() {
+        refreshScheduled.set(false);
+        try {
+            long start = System.nanoTime();
+            if (fullReloadPending.getAndSet(false) || snapshot == null) {
+                pendingIds.clear();
+                // Version first, so a concurrent write can only leave the stamp behind the data
+                localChanges.set(0);
+                loadedVersion = catalogVersionService.getCurrentVersion().getProducts();
+                snapshot = Snapshot.build(productRepository.findAll());
+                log.info("Catalog index loaded: {} products in {}ms", snapshot.byId().size(),
+                        (System.nanoTime() - start) / 1_000_000);
+                return;
+            }
+
+            Set<String> changedIds = new HashSet<>();
+            for (String id : pendingIds) {
+                pendingIds.remove(id);
+                changedIds.add(id);
+            }
+            if (changedIds.isEmpty()) {
+                return;
+            }
+            snapshot = snapshot.apply(changedIds, productRepository.findAllById(changedIds));
+            log.debug("Catalog index refreshed: {} products changed in {}ms", changedIds.size(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            // Keep serving the previous snapshot, retry with a full reload on the next change
+            fullReloadPending.set(true);
+            log.error("Catalog index refresh failed", e);
+        }
+    }
+
+    private static Optional<Sort.Order> singleOrder(Sort sort) {
+        Sort.Order first = null;
+        for (Sort.Order order : sort) {
+            if (first != null) {
+                return Optional.empty();
+            }
+            first = order;
+        }
+        return Optional.ofNullable(first);
+    }
+
+    /**
+     * Helper method mirroring the Mongo search filter of ProductRepositoryCustomImpl
+     */
+    private static Predicate<Product> toPredicate(ProductSearchCriteria criteria) {
+        String name = criteria.getName() != null ? criteria.getName().toLowerCase(Locale.ROOT) : null;
+        Set<String> categories = criteria.getCategoryIds() != null && criteria.getCategoryIds().size() > 1
+                ? Set.copyOf(criteria.getCategoryIds())
+                : null;
+        return product -> (categories == null || categories.contains(Snapshot.categoryId(product)))
+                && (criteria.getBrand() == null || criteria.getBrand().equals(product.getBrand()))
+                && (criteria.getMinPrice() == null
+                        || product.getPrice() != null && product.getPrice().compareTo(criteria.getMinPrice()) >= 0)
+                && (criteria.getMaxPrice() == null
+                        || product.getPrice() != null && product.getPrice().compareTo(criteria.getMaxPrice()) <= 0)
+                && (criteria.getMinRating() == null
+                        || product.getRating() != null && product.getRating() >= criteria.getMinRating())
+                && (!Boolean.TRUE.equals(criteria.getInStock())
+                        || product.getCountInStock() != null && product.getCountInStock() > 0)
+                && (name == null
+                        || product.getName() != null && product.getName().toLowerCase(Locale.ROOT).contains(name));
+    }
+
+    enum SortKey {
+        PRICE("price", Comparator.comparing(Product::getPrice, Comparator.nullsFirst(Comparator.naturalOrder()))),
+        RATING("rating", Comparator.comparing(Product::getRating, Comparator.nullsFirst(Comparator.naturalOrder()))),
+        DATE_CREATED("dateCreated",
+                Comparator.comparing(Product::getDateCreated, Comparator.nullsFirst(Comparator.naturalOrder())));
+
+        private final String property;
+        // Ties broken by id so pages are stable across requests
+        private final Comparator<Product> comparator;
+
+        SortKey(String property, Comparator<Product> comparator) {
+            this.property = property;
+            this.comparator = comparator.thenComparing(Product::getId);
+        }
+
+        static SortKey of(String property) {
+            for (SortKey key : values()) {
+                if (key.property.equals(property)) {
+                    return key;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * One array per sort key, all ascending. Arrays are never mutated after construction.
+     */
+    record SortedViews(Product[][] arrays) {
+        private static final SortedViews EMPTY = of(new Product[0]);
+
+        static SortedViews of(Product[] products) {
+            Product[][] arrays = new Product[SortKey.values().length][];
+            for (SortKey key : SortKey.values()) {
+                Product[] sorted = products.clone();
+                Arrays.sort(sorted, key.comparator);
+                arrays[key.ordinal()] = sorted;
+            }
+            return new SortedViews(arrays);
+        }
+
+        Product[] get(SortKey key) {
+            return arrays[key.ordinal()];
+        }
+
+        int size() {
+            return arrays[0].length;
+        }
+
+        /**
+         * Copy-on-write update: drops the changed ids and merges the (sorted)
+         * replacements in, O(n + k log k) per key instead of a full re-sort.
+         */
+        SortedViews replace(Set<String> changedIds, List<Product> replacements) {
+            Product[][] merged = new Product[arrays.length][];
+            for (SortKey key : SortKey.values()) {
+                Product[] additions = replacements.toArray(new Product[0]);
+                Arrays.sort(additions, key.comparator);
+                merged[key.ordinal()] = merge(arrays[key.ordinal()], changedIds, additions, key.comparator);
+            }
+            return new SortedViews(merged);
+        }
+
+        private static Product[] merge(Product[] base, Set<String> removedIds, Product[] additions,
+                Comparator<Product> comparator) {
+            List<Product> result = new ArrayList<>(base.length + additions.length);
+            int next = 0;
+            for (Product product : base) {
+                if (removedIds.contains(product.getId())) {
+                    continue;
+                }
+                while (next < additions.length && comparator.compare(additions[next], product) < 0) {
+                    result.add(additions[next++]);
+                }
+                result.add(product);
+            }
+            while (next < additions.length) {
+                result.add(additions[next++]);
+            }
+            return result.toArray(new Product[0]);
+        }
+    }
+
+    record Snapshot(Map<String, Product> byId, SortedViews all, Map<String, SortedViews> byCategory) {
+
+        static Snapshot build(List<Product> products) {
+            Map<String, Product> byId = new HashMap<>(products.size() * 2);
+            Map<String, List<Product>> categories = new HashMap<>();
+            for (Product product : products) {
+                byId.put(product.getId(), product);
+                categories.computeIfAbsent(categoryId(product), id -> new ArrayList<>()).add(product);
+            }
+            Map<String, SortedViews> byCategory = new HashMap<>(categories.size() * 2);
+            categories.forEach((categoryId, members) ->
+                    byCategory.put(categoryId, SortedViews.of(members.toArray(new Product[0]))));
+            return new Snapshot(byId, SortedViews.of(products.toArray(new Product[0])), byCategory);
+        }
+
+        /**
+         * Builds the next version from this one. Ids in changedIds that are not in
+         * loaded were deleted.
+         */
+        Snapshot apply(Set<String> changedIds, List<Product> loaded) {
+            Map<String, Product> nextById = new HashMap<>(byId);
+            Map<String, List<Product>> additionsByCategory = new HashMap<>();
+            Map<String, Set<String>> removalsByCategory = new HashMap<>();
+
+            for (String id : changedIds) {
+                Product previous = nextById.remove(id);
+                if (previous != null) {
+                    removalsByCategory.computeIfAbsent(categoryId(previous), key -> new HashSet<>()).add(id);
+                }
+            }
+            for (Product product : loaded) {
+                nextById.put(product.getId(), product);
+                additionsByCategory.computeIfAbsent(categoryId(product), key -> new ArrayList<>()).add(product);
+            }
+
+            Set<String> touchedCategories = new HashSet<>(removalsByCategory.keySet());
+            touchedCategories.addAll(additionsByCategory.keySet());
+            Map<String, SortedViews> nextByCategory = new HashMap<>(byCategory);
+            for (String categoryId : touchedCategories) {
+                SortedViews updated = nextByCategory.getOrDefault(categoryId, SortedViews.EMPTY).replace(
+                        removalsByCategory.getOrDefault(categoryId, Set.of()),
+                        additionsByCategory.getOrDefault(categoryId, List.of()));
+                if (updated.size() == 0) {
+                    nextByCategory.remove(categoryId);
+                } else {
+                    nextByCategory.put(categoryId, updated);
+                }
+            }
+
+            return new Snapshot(nextById, all.replace(changedIds, loaded), nextByCategory);
+        }
+
+        private static String categoryId(Product product) {
+            return product.getCategory() != null ? product.getCategory().getId() : null;
+        }
+    }
+}
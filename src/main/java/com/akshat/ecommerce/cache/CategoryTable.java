@@ -0,0 +1,223 @@
+package com.akshat.ecommerce.cache;
+
+import com.akshat.ecommerce.dto.response.CategoryResponseDto;
+import com.akshat.ecommerce.event.CategoriesChangedEvent;
+import com.akshat.ecommerce.model.Category;
+import com.akshat.ecommerce.model.CategorySummary;
+import com.akshat.ecommerce.repository.CategoryRepository;
+import com.akshat.ecommerce.service.CatalogVersionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.modelmapper.ModelMapper;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In-memory Category Table
+ * Design Pattern: Cache-Aside Pattern, Immutable Snapshot (copy-on-write)
+ * Optimization: The whole categories collection is tiny and nearly static, so it is
+ * held as one immutable, version-stamped snapshot. Readers never lock; writers
+ * build a new snapshot and swap the reference. Writes on this node reload it
+ * directly; writes on other nodes are picked up by polling the categories version
+ * stamp, a single _id lookup per interval. The snapshot also indexes the
+ * category hierarchy, so subtrees and breadcrumbs are resolved without queries.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryTable {
+
+    private final CategoryRepository categoryRepository;
+    private final CatalogVersionService catalogVersionService;
+    private final ModelMapper modelMapper;
+
+    private volatile Snapshot snapshot;
+
+    public Optional<Category> findById(String id) {
+        Category category = snapshot().categories().get(id);
+        if (category != null) {
+            return Optional.of(category);
+        }
+        // Possibly created on another node since the last load
+        Optional<Category> loaded = categoryRepository.findById(id);
+        if (loaded.isPresent()) {
+            reload();
+        }
+        return loaded;
+    }
+
+    /**
+     * Snapshot lookup only, no Mongo fallback on a miss. For per-render paths that
+     * may meet ids of deleted categories, where a miss must stay free.
+     */
+    public Optional<Category> findLoadedById(String id) {
+        return Optional.ofNullable(snapshot().categories().get(id));
+    }
+
+    /**
+     * Response view of one category, mapped once per snapshot.
+     */
+    public Optional<CategoryResponseDto> findResponseById(String id) {
+        CategoryResponseDto category = snapshot().responses().get(id);
+        if (category != null) {
+            return Optional.of(category);
+        }
+        return findById(id).map(found -> snapshot().responses().get(id));
+    }
+
+    /**
+     * All categories in collection order; the list is immutable and shared.
+     */
+    public List<CategoryResponseDto> findAllResponses() {
+        return snapshot().all();
+    }
+
+    /**
+     * Direct children in collection order; a null parentId returns the top-level
+     * categories.
+     */
+    public List<String> findChildIds(String parentId) {
+        Snapshot current = snapshot();
+        return parentId == null ? current.roots() : current.children().getOrDefault(parentId, List.of());
+    }
+
+    /**
+     * The category followed by all of its descendants. Unknown ids resolve to
+     * themselves, so queries on them simply match nothing.
+     */
+    public List<String> findSubtreeIds(String id) {
+        Snapshot current = snapshot();
+        List<String> subtree = new ArrayList<>();
+        Deque<String> pending = new ArrayDeque<>();
+        pending.add(id);
+        while (!pending.isEmpty()) {
+            String next = pending.poll();
+            if (subtree.contains(next)) {
+                continue; // guards against a cyclic path written outside the service
+            }
+            subtree.add(next);
+            pending.addAll(current.children().getOrDefault(next, List.of()));
+        }
+        return subtree;
+    }
+
+    /**
+     * Path from the top-level category down to and including the given one.
+     */
+    public Optional<List<CategoryResponseDto>> findBreadcrumbs(String id) {
+        Snapshot current = snapshot();
+        Category category = current.categories().get(id);
+        if (category == null) {
+            return Optional.empty();
+        }
+        List<CategoryResponseDto> breadcrumbs = new ArrayList<>();
+        if (category.getAncestors() != null) {
+            for (String ancestorId : category.getAncestors()) {
+                CategoryResponseDto ancestor = current.responses().get(ancestorId);
+                if (ancestor != null) {
+                    breadcrumbs.add(ancestor);
+                }
+            }
+        }
+        breadcrumbs.add(current.responses().get(id));
+        return Optional.of(breadcrumbs);
+    }
+
+    /**
+     * Resolves an embedded summary to the full category, falling back to the
+     * summary itself for categories that no longer exist.
+     */
+    public CategoryResponseDto resolve(CategorySummary summary) {
+        if (summary == null) {
+            return null;
+        }
+        CategoryResponseDto category = summary.getId() != null ? snapshot().responses().get(summary.getId()) : null;
+        if (category != null) {
+            return category;
+        }
+        return CategoryResponseDto.builder()
+                .id(summary.getId())
+                .name(summary.getName())
+                .build();
+    }
+
+    public long getVersion() {
+        return snapshot().version();
+    }
+
+    @EventListener
+    public void onCategoriesChanged(CategoriesChangedEvent event) {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "#{@appConfig.categoryCache.pollIntervalMs}")
+    public void pollVersion() {
+        Snapshot current = snapshot;
+        if (current != null && catalogVersionService.getCurrentVersion().getCategories() != current.version()) {
+            log.debug("Categories version moved past {}, reloading", current.version());
+            reload();
+        }
+    }
+
+    /**
+     * Rebuilds the snapshot off to the side and swaps it in. The version is read
+     * before the categories, so a concurrent write can only leave the stamp behind
+     * the data, never ahead of it.
+     */
+    public synchronized void reload() {
+        long version = catalogVersionService.getCurrentVersion().getCategories();
+        Map<String, Category> categories = new HashMap<>();
+        Map<String, CategoryResponseDto> responses = new HashMap<>();
+        List<CategoryResponseDto> all = new ArrayList<>();
+        List<Category> loaded = categoryRepository.findAll();
+        for (Category category : loaded) {
+            CategoryResponseDto response = modelMapper.map(category, CategoryResponseDto.class);
+            categories.put(category.getId(), category);
+            responses.put(category.getId(), response);
+            all.add(response);
+        }
+
+        // Children of a missing parent are treated as top-level
+        List<String> roots = new ArrayList<>();
+        Map<String, List<String>> children = new HashMap<>();
+        for (Category category : loaded) {
+            if (category.getParentId() == null || !categories.containsKey(category.getParentId())) {
+                roots.add(category.getId());
+            } else {
+                children.computeIfAbsent(category.getParentId(), parentId -> new ArrayList<>()).add(category.getId());
+            }
+        }
+        children.replaceAll((parentId, ids) -> List.copyOf(ids));
+
+        snapshot = new Snapshot(version, Map.copyOf(categories), Map.copyOf(responses), List.copyOf(all),
+                List.copyOf(roots), Map.copyOf(children));
+        log.debug("Category table loaded: {} categories at version {}", categories.size(), version);
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private record Snapshot(long version, Map<String, Category> categories,
+            Map<String, CategoryResponseDto> responses, List<CategoryResponseDto> all, List<String> roots,
+            Map<String, List<String>> children) {
+    }
+}
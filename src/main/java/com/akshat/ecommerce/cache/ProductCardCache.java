@@ -0,0 +1,102 @@
+package com.akshat.ecommerce.cache;
+
+import com.akshat.ecommerce.config.AppConfig;
+import com.akshat.ecommerce.dto.response.ProductCardDto;
+import com.akshat.ecommerce.event.ProductsChangedEvent;
+import com.akshat.ecommerce.model.Product;
+import com.akshat.ecommerce.repository.ProductRepository;
+import org.modelmapper.ModelMapper;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Product Card Cache
+ * Design Pattern: Cache-Aside Pattern, Observer Pattern (evicts on ProductsChangedEvent)
+ * Optimization: Trending and frequently-bought-together lists repeat the same few
+ * products on every request, so their cards are held in memory and only misses are
+ * loaded, all in one $in query. Writes on this node evict the changed products,
+ * writes on other nodes show up within the TTL. Size is bounded by dropping
+ * expired, then arbitrary entries.
+ */
+@Component
+public class ProductCardCache {
+
+    private final AppConfig.ProductCards settings;
+    private final ProductRepository productRepository;
+    private final ModelMapper modelMapper;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public ProductCardCache(AppConfig appConfig, ProductRepository productRepository, ModelMapper modelMapper) {
+        this.settings = appConfig.getProductCards();
+        this.productRepository = productRepository;
+        this.modelMapper = modelMapper;
+    }
+
+    /**
+     * @return the cards in the order of the ids; products that no longer exist are skipped
+     */
+    public List<ProductCardDto> getAll(List<String> productIds) {
+        long now = System.currentTimeMillis();
+        Map<String, ProductCardDto> cards = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String productId : productIds) {
+            Entry entry = entries.get(productId);
+            if (entry != null && !entry.isExpired(now)) {
+                cards.put(productId, entry.card());
+            } else {
+                missing.add(productId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            for (Product product : productRepository.findCardsByIdIn(missing)) {
+                ProductCardDto card = modelMapper.map(product, ProductCardDto.class);
+                cards.put(product.getId(), card);
+                entries.put(product.getId(), new Entry(card, now + settings.getTtlMs()));
+            }
+            evictIfFull(now);
+        }
+
+        return productIds.stream()
+                .map(cards::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    @EventListener
+    public void onProductsChanged(ProductsChangedEvent event) {
+        if (event.isCatalogWide()) {
+            entries.clear();
+        } else {
+            event.getProductIds().forEach(entries::remove);
+        }
+    }
+
+    private void evictIfFull(long now) {
+        if (entries.size() <= settings.getMaxEntries()) {
+            return;
+        }
+        entries.values().removeIf(entry -> entry.isExpired(now));
+
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (entries.size() > settings.getMaxEntries() && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record Entry(ProductCardDto card, long expiresAt) {
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.akshat.ecommerce.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Product View Counter
+ * Design Pattern: Write-Behind Buffer
+ * Optimization: Views are accumulated in striped LongAdder cells, so concurrent
+ * readers of the same hot product do not contend on one counter; the buffer is
+ * drained periodically into a single bulk write. Adders are never removed, so a
+ * view recorded while a drain runs cannot land in a discarded adder; only existing
+ * products are recorded, which bounds the map by the catalog size
+ */
+@Component
+public class ProductViewCounter {
+
+    private final ConcurrentHashMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    public void record(String productId) {
+        counters.computeIfAbsent(productId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * Takes the views counted since the last drain. A view racing the reset is
+     * either taken now or left in the adder for the next drain, never lost.
+     */
+    public Map<String, Long> drain() {
+        Map<String, Long> drained = new HashMap<>();
+        counters.forEach((productId, adder) -> {
+            long views = adder.sumThenReset();
+            if (views > 0) {
+                drained.put(productId, views);
+            }
+        });
+        return drained;
+    }
+
+    /**
+     * Puts drained views back, used when a flush fails.
+     */
+    public void restore(Map<String, Long> views) {
+        views.forEach((productId, count) -> counters.computeIfAbsent(productId, id -> new LongAdder()).add(count));
+    }
+}
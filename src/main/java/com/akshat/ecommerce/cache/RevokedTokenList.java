@@ -0,0 +1,109 @@
+package com.akshat.ecommerce.cache;
+
+import com.akshat.ecommerce.model.RevokedToken;
+import com.akshat.ecommerce.repository.RevokedTokenRepository;
+import com.akshat.ecommerce.util.BloomFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory Revoked Token List
+ * Design Pattern: Immutable Snapshot (copy-on-write), Bloom Filter pre-check
+ * Optimization: Every authenticated request asks whether its jti is revoked, and
+ * almost always it is not. The bloom filter answers that from a few bit probes;
+ * only its rare positives consult the exact map. Revocations on this node apply
+ * immediately, those made on other nodes are picked up by polling revokedAt. The
+ * snapshot is rebuilt on change, revocations are rare, and drops tokens whose
+ * exp has passed, mirroring the TTL index.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RevokedTokenList {
+
+    // Revocations are stamped with the writing node's clock, re-read a margin to absorb skew
+    private static final long POLL_OVERLAP_SECONDS = 10;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private LocalDateTime watermark; // guarded by this
+
+    public boolean isRevoked(String tokenId) {
+        Snapshot current = snapshot;
+        return current.filter().mightContain(tokenId) && current.expiries().containsKey(tokenId);
+    }
+
+    /**
+     * Applies a revocation persisted by this node without waiting for the poll.
+     */
+    public synchronized void add(String tokenId, long expiresAt) {
+        merge(List.of(new Revocation(tokenId, expiresAt)), System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        poll();
+    }
+
+    @Scheduled(fixedDelayString = "#{@appConfig.auth.revocationPollIntervalMs}")
+    public synchronized void poll() {
+        LocalDateTime pollStart = LocalDateTime.now();
+        List<RevokedToken> revoked = watermark == null
+                ? revokedTokenRepository.findAll()
+                : revokedTokenRepository.findByRevokedAtGreaterThanEqual(watermark.minusSeconds(POLL_OVERLAP_SECONDS));
+        merge(revoked.stream()
+                .map(token -> new Revocation(token.getId(), toMillis(token.getExpiresAt())))
+                .toList(), System.currentTimeMillis());
+        if (watermark == null) {
+            log.info("Loaded {} revoked tokens", snapshot.expiries().size());
+        }
+        watermark = pollStart;
+    }
+
+    /**
+     * Rebuilds the snapshot only if a revocation is new or a held one expired, so
+     * replaying the poll overlap costs no rebuild. Callers hold this instance's lock.
+     */
+    void merge(List<Revocation> revocations, long now) {
+        Snapshot current = snapshot;
+        boolean expiredAny = current.expiries().values().stream().anyMatch(expiresAt -> expiresAt <= now);
+        boolean addsAny = revocations.stream()
+                .anyMatch(revocation -> revocation.expiresAt() > now
+                        && !current.expiries().containsKey(revocation.tokenId()));
+        if (!expiredAny && !addsAny) {
+            return;
+        }
+
+        Map<String, Long> expiries = new HashMap<>(current.expiries());
+        expiries.values().removeIf(expiresAt -> expiresAt <= now);
+        for (Revocation revocation : revocations) {
+            if (revocation.expiresAt() > now) {
+                expiries.put(revocation.tokenId(), revocation.expiresAt());
+            }
+        }
+        // Headroom so the false-positive rate holds until the next rebuild
+        snapshot = new Snapshot(BloomFilter.of(expiries.keySet(), expiries.size() * 2), Map.copyOf(expiries));
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    record Revocation(String tokenId, long expiresAt) {
+    }
+
+    private record Snapshot(BloomFilter filter, Map<String, Long> expiries) {
+        static final Snapshot EMPTY = new Snapshot(BloomFilter.of(List.of(), 0), Map.of());
+    }
+}
@@ -0,0 +1,127 @@
+package com.akshat.ecommerce.cache;
+
+import com.akshat.ecommerce.config.AppConfig;
+import com.akshat.ecommerce.dto.request.ProductSearchCriteria;
+import com.akshat.ecommerce.dto.response.ProductResponseDto;
+import com.akshat.ecommerce.event.CategoriesChangedEvent;
+import com.akshat.ecommerce.event.ProductsChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Search Result Cache
+ * Design Pattern: Cache-Aside Pattern, Single-Flight (one loader per key)
+ * Optimization: Result pages are keyed by the normalized criteria, the pageable and
+ * a catalog generation. Any product or category write bumps the generation, which
+ * orphans every existing entry at once without touching them; orphans are
+ * dropped when the cache reaches its bound. Concurrent misses on the same key
+ * wait for the first loader instead of each querying Mongo. The TTL bounds
+ * staleness from writes made on other nodes.
+ */
+@Component
+public class SearchResultCache {
+
+    private final AppConfig.SearchCache settings;
+    private final AtomicLong generation = new AtomicLong();
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    public SearchResultCache(AppConfig appConfig) {
+        this.settings = appConfig.getSearchCache();
+    }
+
+    /**
+     * Returns the cached page or loads it, at most once per key across threads.
+     * Criteria must already be normalized and must not be mutated afterwards.
+     */
+    public Slice<ProductResponseDto> get(ProductSearchCriteria criteria, Pageable pageable, boolean withCount,
+            Supplier<Slice<ProductResponseDto>> loader) {
+        if (!settings.isEnabled()) {
+            return loader.get();
+        }
+
+        // Generation is read before loading, so a page loaded across a write is filed under the old one
+        Key key = new Key(generation.get(), criteria, pageable, withCount);
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        if (entry != null && !entry.isExpired(now)) {
+            return join(entry.result);
+        }
+
+        Entry fresh = new Entry(new CompletableFuture<>(), now + settings.getTtlMs());
+        Entry winner = entries.compute(key, (k, current) -> current == null || current.isExpired(now) ? fresh : current);
+        if (winner != fresh) {
+            return join(winner.result);
+        }
+        evictIfFull();
+
+        try {
+            Slice<ProductResponseDto> slice = loader.get();
+            fresh.result.complete(slice);
+            return slice;
+        } catch (RuntimeException e) {
+            entries.remove(key, fresh);
+            fresh.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @EventListener
+    public void onProductsChanged(ProductsChangedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    @EventListener
+    public void onCategoriesChanged(CategoriesChangedEvent event) {
+        // Result pages embed category details
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Drops orphaned and expired entries first; if the cache is still over its
+     * bound, removes arbitrary entries until it fits again.
+     */
+    private void evictIfFull() {
+        if (entries.size() <= settings.getMaxEntries()) {
+            return;
+        }
+        long current = generation.get();
+        long now = System.currentTimeMillis();
+        entries.entrySet().removeIf(e -> e.getKey().generation() != current || e.getValue().isExpired(now));
+
+        Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+        while (entries.size() > settings.getMaxEntries() && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static Slice<ProductResponseDto> join(CompletableFuture<Slice<ProductResponseDto>> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Key(long generation, ProductSearchCriteria criteria, Pageable pageable, boolean withCount) {
+    }
+
+    private record Entry(CompletableFuture<Slice<ProductResponseDto>> result, long expiresAt) {
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
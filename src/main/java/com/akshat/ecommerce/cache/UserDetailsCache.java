@@ -0,0 +1,77 @@
+package com.akshat.ecommerce.cache;
+
+import com.akshat.ecommerce.config.AppConfig;
+import com.akshat.ecommerce.secuity.CustomUserDetails;
+import com.akshat.ecommerce.secuity.UserDetailsServiceImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * User Details Cache
+ * Design Pattern: Cache-Aside Pattern
+ * Optimization: Only used when app.auth.user-cache-enabled is set, for deployments
+ * that want role and account changes to apply before a token expires. Users are
+ * re-read at most once per TTL instead of on every request, so the TTL bounds how
+ * long a demoted or deleted user keeps their previous rights.
+ */
+@Component
+public class UserDetailsCache {
+
+    private final AppConfig.Auth settings;
+    private final UserDetailsServiceImpl userDetailsService;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public UserDetailsCache(AppConfig appConfig, UserDetailsServiceImpl userDetailsService) {
+        this.settings = appConfig.getAuth();
+        this.userDetailsService = userDetailsService;
+    }
+
+    public boolean isEnabled() {
+        return settings.isUserCacheEnabled();
+    }
+
+    public CustomUserDetails get(String email) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(email);
+        if (entry != null && !entry.isExpired(now)) {
+            return entry.user;
+        }
+
+        CustomUserDetails loaded = (CustomUserDetails) userDetailsService.loadUserByUsername(email);
+        // The password hash is never needed after login, keep it out of the heap-wide cache
+        CustomUserDetails user = CustomUserDetails.builder()
+                .id(loaded.getId())
+                .email(loaded.getEmail())
+                .isAdmin(loaded.getIsAdmin())
+                .build();
+        entries.put(email, new Entry(user, now + settings.getUserCacheTtlMs()));
+        evictIfFull(now);
+        return user;
+    }
+
+    /**
+     * Drops expired entries first; if the cache is still over its bound, removes
+     * arbitrary entries until it fits again.
+     */
+    private void evictIfFull(long now) {
+        if (entries.size() <= settings.getUserCacheMaxEntries()) {
+            return;
+        }
+        entries.values().removeIf(entry -> entry.isExpired(now));
+
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (entries.size() > settings.getUserCacheMaxEntries() && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record Entry(CustomUserDetails user, long expiresAt) {
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.akshat.ecommerce.cache;
+
+import com.akshat.ecommerce.config.AppConfig;
+import com.akshat.ecommerce.secuity.CustomUserDetails;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Verified Token Cache
+ * Design Pattern: Cache-Aside Pattern
+ * Optimization: A session repeats the same bearer token on every request, so the
+ * result of signature verification and claims parsing is kept per token. Entries
+ * are keyed by the SHA-256 of the token, raw tokens are never held, and expire at
+ * the token's own exp claim, so a cached token is accepted exactly as long as the
+ * parser would accept it. Size is bounded by dropping expired, then arbitrary
+ * entries.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    private final AppConfig.Auth settings;
+    private final ConcurrentHashMap<Key, VerifiedToken> entries = new ConcurrentHashMap<>();
+
+    public VerifiedTokenCache(AppConfig appConfig) {
+        this.settings = appConfig.getAuth();
+    }
+
+    /**
+     * Returns the cached verification of the token or runs the verifier, which
+     * must throw for invalid tokens. Failures are never cached.
+     */
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        if (!settings.isTokenCacheEnabled()) {
+            return verifier.apply(token);
+        }
+
+        Key key = Key.of(token);
+        long now = System.currentTimeMillis();
+        VerifiedToken cached = entries.get(key);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached;
+            }
+            entries.remove(key, cached);
+        }
+
+        VerifiedToken verified = verifier.apply(token);
+        entries.put(key, verified);
+        evictIfFull(now);
+        return verified;
+    }
+
+    private void evictIfFull(long now) {
+        if (entries.size() <= settings.getTokenCacheMaxEntries()) {
+            return;
+        }
+        entries.values().removeIf(entry -> entry.isExpired(now));
+
+        Iterator<Map.Entry<Key, VerifiedToken>> iterator = entries.entrySet().iterator();
+        while (entries.size() > settings.getTokenCacheMaxEntries() && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Outcome of verifying one token. tokenId and principal are null for tokens
+     * issued before the jti and identity claims existed. Revocation is checked on
+     * every request, not cached here.
+     */
+    public record VerifiedToken(String tokenId, String email, CustomUserDetails principal, long expiresAt) {
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+
+    /**
+     * The digest as four longs, so lookups hash and compare without arrays
+     */
+    private record Key(long a, long b, long c, long d) {
+        static Key of(String token) {
+            ByteBuffer digest = ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+            return new Key(digest.getLong(), digest.getLong(), digest.getLong(), digest.getLong());
+        }
+    }
+}
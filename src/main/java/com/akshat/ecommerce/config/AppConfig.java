@@ -4,6 +4,10 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import lombok.Data;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Application Configuration Properties
  * Design Pattern: Configuration Pattern, Properties Pattern
@@ -20,6 +24,17 @@ public class AppConfig {
 
     private Pagination pagination = new Pagination();
     private Upload upload = new Upload();
+    private ProductImport productImport = new ProductImport();
+    private UserImport userImport = new UserImport();
+    private Trending trending = new Trending();
+    private Recommendations recommendations = new Recommendations();
+    private ProductCards productCards = new ProductCards();
+    private CatalogIndex catalogIndex = new CatalogIndex();
+    private SearchCache searchCache = new SearchCache();
+    private CategoryCache categoryCache = new CategoryCache();
+    private CategoryStats categoryStats = new CategoryStats();
+    private Auth auth = new Auth();
+    private RateLimit rateLimit = new RateLimit();
 
     @Data
     public static class Pagination {
@@ -30,7 +45,133 @@ public class AppConfig {
     @Data
     public static class Upload {
         private String path = "/uploads";
-        private long maxFileSize = 5242880; // 5MB
+        private long maxFileSize = 5242880; // 5MB, also the multipart limit
+        // Decoded size is width x height x 4 bytes, so this caps a decode at ~100MB of heap
+        private long maxImagePixels = 25_000_000;
         private String[] allowedTypes = { "image/jpeg", "image/png", "image/gif" };
+        private int thumbnailWidth = 320;
+        private int thumbnailThreads = 2;
+        private int thumbnailQueueCapacity = 100;
+        private long cacheMaxAgeSeconds = 31536000; // 1 year, file names are never reused
+    }
+
+    @Data
+    public static class ProductImport {
+        private int batchSize = 1000;
+        private int maxBatchSize = 10000;
+        private int maxReportedRejections = 100;
+    }
+
+    @Data
+    public static class UserImport {
+        // Smaller than product batches, every row costs a BCrypt hash
+        private int batchSize = 200;
+        private int maxBatchSize = 2000;
+        private int maxReportedRejections = 100;
+    }
+
+    @Data
+    public static class Trending {
+        private long flushIntervalMs = 10000;
+        private long recomputeIntervalMs = 60000;
+        private long halfLifeHours = 6;
+        private int windowHours = 48;
+        private int maxSize = 50;
+    }
+
+    @Data
+    public static class Recommendations {
+        private int maxNeighbors = 32;
+        private int maxProducts = 1000000;
+        private int maxItemsPerOrder = 50;
+        private int scanBatchSize = 1000;
+        // Rebuilt from all orders so orders taken on other nodes are counted too
+        private long rebuildIntervalMs = 3600000;
+    }
+
+    @Data
+    public static class ProductCards {
+        // Upper bound for card changes made on other nodes to show up
+        private long ttlMs = 60000;
+        private int maxEntries = 10000;
+    }
+
+    @Data
+    public static class CatalogIndex {
+        // Serve catalog browsing and search from an in-memory snapshot instead of Mongo
+        private boolean enabled = false;
+        // Upper bound for the index to pick up product writes made on other nodes
+        private long pollIntervalMs = 5000;
+    }
+
+    @Data
+    public static class SearchCache {
+        private boolean enabled = true;
+        private int maxEntries = 1000;
+        private long ttlMs = 30000;
+    }
+
+    @Data
+    public static class CategoryCache {
+        // Upper bound for other nodes to pick up category writes
+        private long pollIntervalMs = 5000;
+    }
+
+    @Data
+    public static class CategoryStats {
+        // Full recount repairing drift of the incrementally maintained counts
+        private long rebuildIntervalMs = 3600000;
+    }
+
+    @Data
+    public static class Auth {
+        // Re-read users through a short-lived cache instead of trusting the token's role claims
+        private boolean userCacheEnabled = false;
+        private long userCacheTtlMs = 30000;
+        private int userCacheMaxEntries = 10000;
+        // Skip signature verification for bearer tokens seen before, until their exp
+        private boolean tokenCacheEnabled = true;
+        private int tokenCacheMaxEntries = 10000;
+        // Upper bound for other nodes to honour a logout
+        private long revocationPollIntervalMs = 2000;
+        // BCrypt work factor; stored hashes with a lower cost are upgraded on login
+        private int bcryptStrength = 10;
+        private int hashingThreads = 2;
+        private int hashingQueueCapacity = 50;
+        private long hashingTimeoutMs = 5000;
+        // Parallelism of bulk imports; 0 leaves the login pool's cores free (cores - hashingThreads, at least 1)
+        private int bulkHashingThreads = 0;
+    }
+
+    @Data
+    public static class RateLimit {
+        private boolean enabled = true;
+        // Clients tracked per route group before idle buckets are evicted
+        private int maxClients = 100000;
+        // First group whose paths (relative to api.url) match wins
+        private Map<String, Group> groups = defaultGroups();
+
+        @Data
+        public static class Group {
+            private List<String> paths = List.of();
+            private double requestsPerSecond;
+            private int burst;
+
+            static Group of(double requestsPerSecond, int burst, String... paths) {
+                Group group = new Group();
+                group.setPaths(List.of(paths));
+                group.setRequestsPerSecond(requestsPerSecond);
+                group.setBurst(burst);
+                return group;
+            }
+        }
+
+        private static Map<String, Group> defaultGroups() {
+            Map<String, Group> groups = new LinkedHashMap<>();
+            groups.put("auth", Group.of(1, 5, "/users/login", "/users/register"));
+            groups.put("search", Group.of(20, 40, "/products/search"));
+            groups.put("default", Group.of(100, 200, "/**"));
+            return groups;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.akshat.ecommerce.config;
+
+import com.akshat.ecommerce.model.AppliedMigration;
+import com.akshat.ecommerce.model.Category;
+import com.akshat.ecommerce.model.Product;
+import com.akshat.ecommerce.repository.AppliedMigrationRepository;
+import com.mongodb.DBRef;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Updates;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Category Reference Migration
+ * Design Pattern: Migration Pattern (idempotent, runs once, recorded in migrations)
+ * Data: Rewrites products that still reference their category through a DBRef
+ * into the embedded category summary format. References to deleted categories
+ * keep their id with no name, the same shape a summary of a deleted category has.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryReferenceMigration implements ApplicationRunner {
+
+    static final String MIGRATION_ID = "category-references-to-summaries";
+
+    private final MongoTemplate mongoTemplate;
+    private final AppliedMigrationRepository appliedMigrationRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (appliedMigrationRepository.existsById(MIGRATION_ID)) {
+            return;
+        }
+
+        long migrated = 0;
+        MongoCollection<Document> products = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Product.class));
+        MongoCollection<Document> categories = mongoTemplate.getCollection(
+                mongoTemplate.getCollectionName(Category.class));
+        for (Document category : categories.find().projection(Projections.include("name"))) {
+            Object id = category.get("_id");
+            Document summary = new Document("_id", id).append("name", category.getString("name"));
+            migrated += products.updateMany(Filters.eq("category.$id", id), Updates.set("category", summary))
+                    .getModifiedCount();
+        }
+
+        // Whatever still has a DBRef points at a category that no longer exists
+        long dangling = 0;
+        for (Document product : products.find(Filters.exists("category.$ref"))
+                .projection(Projections.include("category"))) {
+            Object reference = product.get("category");
+            Object id = reference instanceof DBRef dbRef ? dbRef.getId() : ((Document) reference).get("$id");
+            dangling += products.updateOne(Filters.eq("_id", product.get("_id")),
+                    Updates.set("category", new Document("_id", id).append("name", null))).getModifiedCount();
+        }
+
+        appliedMigrationRepository.save(new AppliedMigration(MIGRATION_ID, LocalDateTime.now()));
+        log.info("Migrated {} products from category DBRefs to embedded category summaries, {} of them dangling",
+                migrated + dangling, dangling);
+    }
+}
@@ -0,0 +1,63 @@
+package com.akshat.ecommerce.config;
+
+import com.akshat.ecommerce.model.AppliedMigration;
+import com.akshat.ecommerce.model.Product;
+import com.akshat.ecommerce.repository.AppliedMigrationRepository;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonType;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Price Decimal Migration
+ * Design Pattern: Migration Pattern (idempotent, runs once, recorded in migrations)
+ * Data: Converts prices written as strings or doubles to Decimal128 server-side in
+ * one pipeline update, so range filters and sorts on price compare numbers.
+ * Values that cannot be parsed are left as they are and counted.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PriceDecimalMigration implements ApplicationRunner {
+
+    static final String MIGRATION_ID = "product-price-to-decimal128";
+
+    private final MongoTemplate mongoTemplate;
+    private final AppliedMigrationRepository appliedMigrationRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (appliedMigrationRepository.existsById(MIGRATION_ID)) {
+            return;
+        }
+
+        MongoCollection<Document> products = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Product.class));
+        Document toDecimal = new Document("$convert", new Document("input", "$price")
+                .append("to", "decimal")
+                .append("onError", "$price"));
+        long migrated = products.updateMany(nonDecimalPrice(),
+                List.of(new Document("$set", new Document("price", toDecimal)))).getModifiedCount();
+        long unparseable = products.countDocuments(nonDecimalPrice());
+
+        appliedMigrationRepository.save(new AppliedMigration(MIGRATION_ID, LocalDateTime.now()));
+        log.info("Migrated {} product prices to Decimal128", migrated);
+        if (unparseable > 0) {
+            log.warn("{} products kept a price that is not a number", unparseable);
+        }
+    }
+
+    private static Bson nonDecimalPrice() {
+        return Filters.or(Filters.type("price", BsonType.STRING), Filters.type("price", BsonType.DOUBLE),
+                Filters.type("price", BsonType.INT32), Filters.type("price", BsonType.INT64));
+    }
+}
@@ -0,0 +1,14 @@
+package com.akshat.ecommerce.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling Configuration
+ * Design Pattern: Configuration Pattern
+ * Background jobs: counter flushes and periodic cache maintenance
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
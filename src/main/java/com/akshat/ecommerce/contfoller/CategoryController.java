@@ -0,0 +1,92 @@
+package com.akshat.ecommerce.contfoller;
+
+import com.akshat.ecommerce.dto.request.CategoryRequestDto;
+import com.akshat.ecommerce.dto.response.CategoryResponseDto;
+import com.akshat.ecommerce.dto.response.CategoryTreeNodeDto;
+import com.akshat.ecommerce.service.CategoryService;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+/**
+ * Category Controller
+ * Design Pattern: MVC Pattern, RESTful API Pattern
+ * Security: Admin-only access for CUD operations
+ * Optimization: Conditional GETs (ETag / If-None-Match) answered before loading data
+ */
+@RestController
+@RequestMapping("${api.url}/categories")
+@RequiredArgsConstructor
+@Validated
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class CategoryController {
+
+    private final CategoryService categoryService;
+
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CategoryResponseDto> createCategory(@Valid @RequestBody CategoryRequestDto categoryRequestDto) {
+        CategoryResponseDto createdCategory = categoryService.createCategory(categoryRequestDto);
+        return new ResponseEntity<>(createdCategory, HttpStatus.CREATED);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<CategoryResponseDto> getCategoryById(@PathVariable String id, WebRequest webRequest) {
+        if (webRequest.checkNotModified(categoryService.getCategoryETag(id))) {
+            return null;
+        }
+        CategoryResponseDto category = categoryService.getCategoryById(id);
+        return ResponseEntity.ok(category);
+    }
+
+    @GetMapping
+    public ResponseEntity<List<CategoryResponseDto>> getAllCategories(WebRequest webRequest) {
+        if (webRequest.checkNotModified(categoryService.getCategoriesETag())) {
+            return null;
+        }
+        List<CategoryResponseDto> categories = categoryService.getAllCategories();
+        return ResponseEntity.ok(categories);
+    }
+
+    @GetMapping("/tree")
+    public ResponseEntity<List<CategoryTreeNodeDto>> getCategoryTree(WebRequest webRequest) {
+        if (webRequest.checkNotModified(categoryService.getCategoriesETag())) {
+            return null;
+        }
+        List<CategoryTreeNodeDto> tree = categoryService.getCategoryTree();
+        return ResponseEntity.ok(tree);
+    }
+
+    @GetMapping("/{id}/breadcrumbs")
+    public ResponseEntity<List<CategoryResponseDto>> getBreadcrumbs(@PathVariable String id, WebRequest webRequest) {
+        if (webRequest.checkNotModified(categoryService.getCategoriesETag())) {
+            return null;
+        }
+        List<CategoryResponseDto> breadcrumbs = categoryService.getBreadcrumbs(id);
+        return ResponseEntity.ok(breadcrumbs);
+    }
+
+    @PutMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CategoryResponseDto> updateCategory(
+            @PathVariable String id,
+            @Valid @RequestBody CategoryRequestDto categoryRequestDto) {
+        CategoryResponseDto updatedCategory = categoryService.updateCategory(id, categoryRequestDto);
+        return ResponseEntity.ok(updatedCategory);
+    }
+
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> deleteCategory(@PathVariable String id) {
+        categoryService.deleteCategory(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,113 @@
+package com.akshat.ecommerce.contfoller;
+
+import com.akshat.ecommerce.config.AppConfig;
+import com.akshat.ecommerce.service.ImageStorageService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Image Controller
+ * Design Pattern: MVC Pattern, RESTful API Pattern
+ * Features: Serves uploaded product images with single byte ranges
+ * Optimization: Tomcat sendfile when the connector supports it, otherwise
+ * FileChannel.transferTo; file bytes never pass through a heap buffer of
+ * file size. Names are immutable, so responses are cacheable for a long time
+ */
+@RestController
+@RequestMapping("${api.url}/images")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class ImageController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ImageStorageService imageStorageService;
+    private final AppConfig appConfig;
+
+    @GetMapping("/{filename:.+}")
+    public void getImage(@PathVariable String filename, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        ImageStorageService.StoredImage image = imageStorageService.load(filename);
+        String eTag = "\"" + filename + "-" + image.size() + "-" + image.lastModified() + "\"";
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl
+                .maxAge(appConfig.getUpload().getCacheMaxAgeSeconds(), TimeUnit.SECONDS)
+                .cachePublic()
+                .getHeaderValue());
+        if (new ServletWebRequest(request, response).checkNotModified(eTag, image.lastModified())) {
+            return;
+        }
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setContentType(image.contentType());
+
+        long start = 0;
+        long end = image.size() - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (rangeHeader != null && (ifRange == null || ifRange.equals(eTag))) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();
+            }
+            // Multipart byteranges are not supported; such requests get the full body
+            if (ranges.size() == 1) {
+                HttpRange range = ranges.get(0);
+                long rangeStart = range.getRangeStart(image.size());
+                if (rangeStart >= image.size()) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + image.size());
+                    response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                start = rangeStart;
+                end = range.getRangeEnd(image.size());
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + image.size());
+            }
+        }
+
+        long length = end - start + 1;
+        response.setContentLengthLong(length);
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, image.path().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel file = FileChannel.open(image.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long written = file.transferTo(position, remaining, out);
+                if (written <= 0) {
+                    break;
+                }
+                position += written;
+                remaining -= written;
+            }
+        }
+    }
+}
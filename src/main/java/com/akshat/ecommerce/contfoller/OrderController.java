@@ -43,7 +43,7 @@ public class OrderController {
     }
 
     @GetMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN') or @orderService.getOrderById(#id).user.email == authentication.name")
+    @PreAuthorize("hasRole('ADMIN') or @ownership.ownsOrder(authentication, #id)")
     public ResponseEntity<OrderResponseDto> getOrderById(@PathVariable String id) {
         OrderResponseDto order = orderService.getOrderById(id);
         return ResponseEntity.ok(order);
@@ -58,14 +58,14 @@ public class OrderController {
     }
 
     @GetMapping("/user/{userId}")
-    @PreAuthorize("hasRole('ADMIN') or @userService.getUserById(#userId).email == authentication.name")
+    @PreAuthorize("hasRole('ADMIN') or @ownership.isSelf(authentication, #userId)")
     public ResponseEntity<List<OrderResponseDto>> getOrdersByUser(@PathVariable String userId) {
         List<OrderResponseDto> orders = orderService.getOrdersByUser(userId);
         return ResponseEntity.ok(orders);
     }
 
     @GetMapping("/user/{userId}/paginated")
-    @PreAuthorize("hasRole('ADMIN') or @userService.getUserById(#userId).email == authentication.name")
+    @PreAuthorize("hasRole('ADMIN') or @ownership.isSelf(authentication, #userId)")
     public ResponseEntity<Page<OrderResponseDto>> getOrdersByUserPaginated(
             @PathVariable String userId,
             @PageableDefault(size = 10, sort = "dateOrdered", direction = Sort.Direction.DESC) Pageable pageable) {
@@ -1,21 +1,35 @@
 package com.akshat.ecommerce.contfoller;
 
+import com.akshat.ecommerce.dto.request.ProductBulkUpdateRequestDto;
 import com.akshat.ecommerce.dto.request.ProductRequestDto;
+import com.akshat.ecommerce.dto.request.ProductSearchCriteria;
+import com.akshat.ecommerce.dto.response.ImportResultDto;
+import com.akshat.ecommerce.dto.response.ProductBulkUpdateResultDto;
+import com.akshat.ecommerce.dto.response.ProductCardDto;
 import com.akshat.ecommerce.dto.response.ProductResponseDto;
+import com.akshat.ecommerce.service.CatalogVersionService;
+import com.akshat.ecommerce.service.ProductImportService;
 import com.akshat.ecommerce.service.ProductService;
+import com.akshat.ecommerce.service.RecommendationService;
+import com.akshat.ecommerce.service.TrendingService;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -23,6 +37,7 @@ import java.util.List;
  * Design Pattern: MVC Pattern, RESTful API Pattern
  * Features: CRUD operations, search, filtering, pagination
  * Security: Admin-only access for CUD operations
+ * Optimization: Conditional GETs (ETag / If-None-Match) answered before loading data
  */
 @RestController
 @RequestMapping("${api.url}/products")
@@ -32,6 +47,10 @@ import java.util.List;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductImportService productImportService;
+    private final CatalogVersionService catalogVersionService;
+    private final TrendingService trendingService;
+    private final RecommendationService recommendationService;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -40,37 +59,111 @@ public class ProductController {
         return new ResponseEntity<>(createdProduct, HttpStatus.CREATED);
     }
 
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ImportResultDto> importProductsCsv(
+            InputStream body,
+            @RequestParam(required = false) Integer batchSize) {
+        ImportResultDto result = productImportService.importProducts(body, ProductImportService.Format.CSV,
+                batchSize);
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ImportResultDto> importProductsNdjson(
+            InputStream body,
+            @RequestParam(required = false) Integer batchSize) {
+        ImportResultDto result = productImportService.importProducts(body, ProductImportService.Format.NDJSON,
+                batchSize);
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<ProductResponseDto> getProductById(@PathVariable String id) {
+    public ResponseEntity<ProductResponseDto> getProductById(@PathVariable String id, WebRequest webRequest) {
+        String eTag = productService.getProductETag(id);
+        trendingService.recordView(id);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         ProductResponseDto product = productService.getProductById(id);
         return ResponseEntity.ok(product);
     }
 
+    @GetMapping("/{id}/related")
+    public ResponseEntity<List<ProductCardDto>> getFrequentlyBoughtTogether(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "8") int limit) {
+        List<ProductCardDto> products = recommendationService.getFrequentlyBoughtTogether(id, limit);
+        return ResponseEntity.ok(products);
+    }
+
     @GetMapping
-    public ResponseEntity<Page<ProductResponseDto>> getAllProducts(
-            @PageableDefault(size = 20, sort = "dateCreated", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<ProductResponseDto> products = productService.getAllProducts(pageable);
+    public ResponseEntity<Slice<ProductResponseDto>> getAllProducts(
+            @PageableDefault(size = 20, sort = "dateCreated", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean withCount,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(catalogVersionService.getCatalogETag())) {
+            return null;
+        }
+        Slice<ProductResponseDto> products = productService.getAllProducts(pageable, withCount);
         return ResponseEntity.ok(products);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Page<ProductResponseDto>> searchProducts(
+    public ResponseEntity<Slice<ProductResponseDto>> searchProducts(
             @RequestParam(required = false) String name,
             @RequestParam(required = false) String categoryId,
-            @PageableDefault(size = 20, sort = "dateCreated", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<ProductResponseDto> products = productService.searchProducts(name, categoryId, pageable);
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Double minRating,
+            @RequestParam(required = false) String brand,
+            @RequestParam(required = false) Boolean inStock,
+            @RequestParam(defaultValue = "false") boolean withCount,
+            @PageableDefault(size = 20, sort = "dateCreated", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(catalogVersionService.getCatalogETag())) {
+            return null;
+        }
+        ProductSearchCriteria criteria = ProductSearchCriteria.builder()
+                .name(name)
+                .categoryId(categoryId)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .minRating(minRating)
+                .brand(brand)
+                .inStock(inStock)
+                .build();
+        Slice<ProductResponseDto> products = productService.searchProducts(criteria, pageable, withCount);
         return ResponseEntity.ok(products);
     }
 
     @GetMapping("/featured")
-    public ResponseEntity<List<ProductResponseDto>> getFeaturedProducts() {
+    public ResponseEntity<List<ProductResponseDto>> getFeaturedProducts(WebRequest webRequest) {
+        if (webRequest.checkNotModified(catalogVersionService.getCatalogETag())) {
+            return null;
+        }
         List<ProductResponseDto> products = productService.getFeaturedProducts();
         return ResponseEntity.ok(products);
     }
 
+    @GetMapping("/trending")
+    public ResponseEntity<List<ProductCardDto>> getTrendingProducts(
+            @RequestParam(defaultValue = "10") int limit) {
+        List<ProductCardDto> products = trendingService.getTrendingProducts(limit);
+        return ResponseEntity.ok(products);
+    }
+
     @GetMapping("/category/{categoryId}")
-    public ResponseEntity<List<ProductResponseDto>> getProductsByCategory(@PathVariable String categoryId) {
-        List<ProductResponseDto> products = productService.getProductsByCategory(categoryId);
+    public ResponseEntity<Slice<ProductCardDto>> getProductsByCategory(
+            @PathVariable String categoryId,
+            @PageableDefault(size = 20, sort = "dateCreated", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean withCount,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(catalogVersionService.getCatalogETag())) {
+            return null;
+        }
+        Slice<ProductCardDto> products = productService.getProductsByCategory(categoryId, pageable, withCount);
         return ResponseEntity.ok(products);
     }
 
@@ -83,6 +176,23 @@ public class ProductController {
         return ResponseEntity.ok(updatedProduct);
     }
 
+    @PostMapping(value = "/{id}/images", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ProductResponseDto> addProductImage(
+            @PathVariable String id,
+            @RequestParam("file") MultipartFile file) {
+        ProductResponseDto product = productService.addProductImage(id, file);
+        return new ResponseEntity<>(product, HttpStatus.CREATED);
+    }
+
+    @PatchMapping("/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ProductBulkUpdateResultDto> bulkUpdateProducts(
+            @Valid @RequestBody ProductBulkUpdateRequestDto bulkUpdateRequestDto) {
+        ProductBulkUpdateResultDto result = productService.bulkUpdateProducts(bulkUpdateRequestDto);
+        return ResponseEntity.ok(result);
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Void> deleteProduct(@PathVariable String id) {
@@ -0,0 +1,68 @@
+package com.akshat.ecommerce.contfoller;
+
+import com.akshat.ecommerce.dto.request.ReviewRequestDto;
+import com.akshat.ecommerce.dto.response.RatingSummaryDto;
+import com.akshat.ecommerce.dto.response.ReviewPageDto;
+import com.akshat.ecommerce.dto.response.ReviewResponseDto;
+import com.akshat.ecommerce.secuity.CustomUserDetails;
+import com.akshat.ecommerce.service.ReviewService;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Review Controller
+ * Design Pattern: MVC Pattern, RESTful API Pattern
+ * Features: Submit, list (keyset cursor) and delete product reviews, rating summary
+ * Security: Authenticated users review; authors or admins delete
+ */
+@RestController
+@RequestMapping("${api.url}/products/{productId}/reviews")
+@RequiredArgsConstructor
+@Validated
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class ReviewController {
+
+    private final ReviewService reviewService;
+
+    @PostMapping
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<ReviewResponseDto> createReview(
+            @PathVariable String productId,
+            @Valid @RequestBody ReviewRequestDto reviewRequestDto,
+            @AuthenticationPrincipal CustomUserDetails user) {
+        ReviewResponseDto review = reviewService.createReview(productId, user.getId(), reviewRequestDto);
+        return new ResponseEntity<>(review, HttpStatus.CREATED);
+    }
+
+    @GetMapping
+    public ResponseEntity<ReviewPageDto> getReviews(
+            @PathVariable String productId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        ReviewPageDto reviews = reviewService.getReviews(productId, cursor, limit);
+        return ResponseEntity.ok(reviews);
+    }
+
+    @GetMapping("/summary")
+    public ResponseEntity<RatingSummaryDto> getRatingSummary(@PathVariable String productId) {
+        RatingSummaryDto summary = reviewService.getRatingSummary(productId);
+        return ResponseEntity.ok(summary);
+    }
+
+    @DeleteMapping("/{reviewId}")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<Void> deleteReview(
+            @PathVariable String productId,
+            @PathVariable String reviewId,
+            @AuthenticationPrincipal CustomUserDetails user) {
+        reviewService.deleteReview(productId, reviewId, user.getId(), Boolean.TRUE.equals(user.getIsAdmin()));
+        return ResponseEntity.noContent().build();
+    }
+}
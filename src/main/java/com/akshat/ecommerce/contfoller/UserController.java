@@ -3,17 +3,22 @@ package com.akshat.ecommerce.contfoller;
 import com.akshat.ecommerce.dto.request.UserLoginDto;
 import com.akshat.ecommerce.dto.request.UserRegistrationDto;
 import com.akshat.ecommerce.dto.response.AuthResponseDto;
+import com.akshat.ecommerce.dto.response.ImportResultDto;
+import com.akshat.ecommerce.dto.response.UserPageDto;
 import com.akshat.ecommerce.dto.response.UserResponseDto;
+import com.akshat.ecommerce.service.UserImportService;
 import com.akshat.ecommerce.service.UserService;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
+
+import java.io.InputStream;
 
 /**
  * User Controller
@@ -28,6 +33,7 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final UserImportService userImportService;
 
     @PostMapping("/register")
     public ResponseEntity<UserResponseDto> registerUser(@Valid @RequestBody UserRegistrationDto userRegistrationDto) {
@@ -41,8 +47,23 @@ public class UserController {
         return ResponseEntity.ok(authResponse);
     }
 
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ImportResultDto> importUsers(
+            InputStream body,
+            @RequestParam(required = false) Integer batchSize) {
+        ImportResultDto result = userImportService.importUsers(body, batchSize);
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logoutUser(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
+        userService.logoutUser(authorization.substring("Bearer ".length()));
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN') or authentication.name == @userService.getUserById(#id).email")
+    @PreAuthorize("hasRole('ADMIN') or @ownership.isSelf(authentication, #id)")
     public ResponseEntity<UserResponseDto> getUserById(@PathVariable String id) {
         UserResponseDto user = userService.getUserById(id);
         return ResponseEntity.ok(user);
@@ -50,13 +71,17 @@ public class UserController {
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<UserResponseDto>> getAllUsers() {
-        List<UserResponseDto> users = userService.getAllUsers();
+    public ResponseEntity<UserPageDto> getUsers(
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        UserPageDto users = userService.getUsers(email, name, cursor, limit);
         return ResponseEntity.ok(users);
     }
 
     @PutMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN') or authentication.name == @userService.getUserById(#id).email")
+    @PreAuthorize("hasRole('ADMIN') or @ownership.isSelf(authentication, #id)")
     public ResponseEntity<UserResponseDto> updateUser(
             @PathVariable String id,
             @Valid @RequestBody UserRegistrationDto userRegistrationDto) {
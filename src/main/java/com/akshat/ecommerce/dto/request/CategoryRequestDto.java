@@ -21,4 +21,7 @@ public class CategoryRequestDto {
 
     private String icon;
     private String color;
+
+    // Optional, places the category under an existing one
+    private String parentId;
 }
\ No newline at end of file
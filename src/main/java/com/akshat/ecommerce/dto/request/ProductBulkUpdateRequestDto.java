@@ -0,0 +1,52 @@
+package com.akshat.ecommerce.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Product Bulk Update Request DTO
+ * Design Pattern: Data Transfer Object Pattern, Composite Pattern
+ * Validation: Partial price/stock/featured updates, applied without reading products
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductBulkUpdateRequestDto {
+    @NotEmpty(message = "Updates are required")
+    @Size(max = 10000, message = "At most 10000 updates per request")
+    @Valid
+    private List<ProductPatchDto> updates;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProductPatchDto {
+        @NotBlank(message = "Product ID is required")
+        private String id;
+
+        @DecimalMin(value = "0.0", inclusive = false, message = "Price must be greater than 0")
+        private BigDecimal price;
+
+        // Absolute stock level; mutually exclusive with stockDelta
+        @Min(value = 0, message = "Stock count cannot be negative")
+        private Integer countInStock;
+
+        // Relative stock change applied with $inc
+        private Integer stockDelta;
+
+        private Boolean isFeatured;
+    }
+}
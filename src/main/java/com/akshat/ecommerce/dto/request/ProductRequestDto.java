@@ -41,7 +41,5 @@ public class ProductRequestDto {
     @Min(value = 0, message = "Stock count cannot be negative")
     private Integer countInStock;
 
-    private Double rating;
-    private Integer numReviews;
     private Boolean isFeatured;
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.akshat.ecommerce.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Product Search Criteria
+ * Design Pattern: Query Object Pattern, Builder Pattern
+ * Structure: Optional server-side filters; null fields are not applied
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchCriteria {
+    private String name;
+    private String categoryId;
+    // Resolved by the service: categoryId and all of its descendants
+    private List<String> categoryIds;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private Double minRating;
+    private String brand;
+    private Boolean inStock;
+}
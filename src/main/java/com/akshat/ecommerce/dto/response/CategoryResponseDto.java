@@ -1,5 +1,6 @@
 package com.akshat.ecommerce.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -19,4 +20,12 @@ public class CategoryResponseDto {
     private String name;
     private String icon;
     private String color;
+    private String parentId;
+
+    // Only filled on category endpoints, omitted where categories are embedded in products
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long productCount;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long inStockCount;
 }
@@ -0,0 +1,27 @@
+package com.akshat.ecommerce.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Category Tree Node DTO
+ * Design Pattern: Data Transfer Object Pattern, Composite Pattern
+ * Structure: Counts include every product in the subtree
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryTreeNodeDto {
+    private String id;
+    private String name;
+    private String icon;
+    private String color;
+    private long productCount;
+    private long inStockCount;
+    private List<CategoryTreeNodeDto> children;
+}
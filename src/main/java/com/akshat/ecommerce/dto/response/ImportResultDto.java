@@ -0,0 +1,35 @@
+package com.akshat.ecommerce.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Import Result DTO
+ * Design Pattern: Data Transfer Object Pattern
+ * Monitoring: Throughput and rejected rows of a bulk product or user import
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportResultDto {
+    private long totalRows;
+    private long importedRows;
+    private long rejectedRows;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private List<RejectedRowDto> rejections;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RejectedRowDto {
+        private long row;
+        private String reason;
+    }
+}
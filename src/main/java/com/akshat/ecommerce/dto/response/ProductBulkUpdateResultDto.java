@@ -0,0 +1,36 @@
+package com.akshat.ecommerce.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Product Bulk Update Result DTO
+ * Design Pattern: Data Transfer Object Pattern
+ * Structure: Outcome of one bulkWrite; unmatched updates point at unknown ids or
+ * stock decrements that would go negative, failed ones were rejected by Mongo.
+ * Every other update is applied regardless.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductBulkUpdateResultDto {
+    private int requested;
+    private int matched;
+    private int modified;
+    private List<String> unmatchedIds;
+    private List<FailedUpdateDto> failures;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FailedUpdateDto {
+        private String id;
+        private String reason;
+    }
+}
@@ -0,0 +1,26 @@
+package com.akshat.ecommerce.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Product Card DTO
+ * Design Pattern: Data Transfer Object Pattern
+ * Optimization: Listing-card view, only the fields a product tile renders
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductCardDto {
+    private String id;
+    private String name;
+    private String image;
+    private BigDecimal price;
+    private Double rating;
+    private Integer countInStock;
+}
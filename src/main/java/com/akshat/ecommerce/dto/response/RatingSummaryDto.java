@@ -0,0 +1,24 @@
+package com.akshat.ecommerce.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Rating Summary DTO
+ * Design Pattern: Data Transfer Object Pattern
+ * Analytics: Average rating, review count and per-star histogram of a product
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingSummaryDto {
+    private String productId;
+    private Double rating;
+    private Integer numReviews;
+    private Map<Integer, Integer> histogram;
+}
@@ -0,0 +1,26 @@
+package com.akshat.ecommerce.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Review Response DTO
+ * Design Pattern: Data Transfer Object Pattern
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewResponseDto {
+    private String id;
+    private String productId;
+    private String userId;
+    private String userName;
+    private int rating;
+    private String comment;
+    private LocalDateTime dateCreated;
+}
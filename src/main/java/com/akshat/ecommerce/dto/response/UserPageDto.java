@@ -0,0 +1,22 @@
+package com.akshat.ecommerce.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * User Page DTO
+ * Design Pattern: Data Transfer Object Pattern, Iterator Pattern (opaque cursor)
+ * Optimization: Keyset page; pass nextCursor back to continue, null means last page
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserPageDto {
+    private List<UserSummaryDto> users;
+    private String nextCursor;
+}
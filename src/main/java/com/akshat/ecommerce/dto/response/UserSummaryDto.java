@@ -0,0 +1,22 @@
+package com.akshat.ecommerce.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * User Summary DTO
+ * Design Pattern: Data Transfer Object Pattern
+ * Security: Directory rows only, no password hash, phone or address
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSummaryDto {
+    private String id;
+    private String name;
+    private String email;
+    private Boolean isAdmin;
+}
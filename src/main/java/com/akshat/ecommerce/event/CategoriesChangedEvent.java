@@ -0,0 +1,16 @@
+package com.akshat.ecommerce.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Categories Changed Event
+ * Design Pattern: Observer Pattern (Spring application events)
+ * Published after every category write so category caches can refresh
+ */
+@Getter
+@AllArgsConstructor
+public class CategoriesChangedEvent {
+
+    private final String categoryId;
+}
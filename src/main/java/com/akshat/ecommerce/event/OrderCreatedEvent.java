@@ -0,0 +1,19 @@
+package com.akshat.ecommerce.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Order Created Event
+ * Design Pattern: Observer Pattern (Spring application events)
+ * Carries the product ids of a new order for incremental analytics
+ */
+@Getter
+@AllArgsConstructor
+public class OrderCreatedEvent {
+
+    private final String orderId;
+    private final List<String> productIds;
+}
@@ -0,0 +1,34 @@
+package com.akshat.ecommerce.event;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Products Changed Event
+ * Design Pattern: Observer Pattern (Spring application events)
+ * Published once per product write batch so caches can invalidate in one step
+ */
+@Getter
+public class ProductsChangedEvent {
+
+    /** Ids of the changed products; empty when the write touched an unknown set */
+    private final Collection<String> productIds;
+
+    public ProductsChangedEvent(Collection<String> productIds) {
+        this.productIds = Collections.unmodifiableCollection(productIds);
+    }
+
+    public static ProductsChangedEvent of(String productId) {
+        return new ProductsChangedEvent(Collections.singletonList(productId));
+    }
+
+    public static ProductsChangedEvent catalogWide() {
+        return new ProductsChangedEvent(Collections.emptyList());
+    }
+
+    public boolean isCatalogWide() {
+        return productIds.isEmpty();
+    }
+}
@@ -0,0 +1,12 @@
+package com.akshat.ecommerce.exception;
+
+/**
+ * Service Unavailable Exception
+ * Design Pattern: Custom Exception Pattern
+ * Business Logic: Load shedding, the client should retry later
+ */
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -1,5 +1,6 @@
 package com.akshat.ecommerce.filter;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -13,6 +14,10 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.akshat.ecommerce.cache.RevokedTokenList;
+import com.akshat.ecommerce.cache.UserDetailsCache;
+import com.akshat.ecommerce.cache.VerifiedTokenCache;
+import com.akshat.ecommerce.cache.VerifiedTokenCache.VerifiedToken;
 import com.akshat.ecommerce.secuity.JwtUtil;
 import com.akshat.ecommerce.secuity.UserDetailsServiceImpl;
 
@@ -23,6 +28,10 @@ import java.io.IOException;
  * Design Pattern: Filter Pattern, Chain of Responsibility Pattern
  * Security: JWT token validation and authentication
  * SOLID: Single Responsibility - JWT authentication only
+ * Optimization: The principal is rebuilt from the signed uid/adm claims, so
+ * authenticated requests cost no database read; repeat tokens skip verification
+ * through VerifiedTokenCache; revoked tokens are rejected from the in-memory
+ * RevokedTokenList
  */
 @Component
 @RequiredArgsConstructor
@@ -31,6 +40,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsServiceImpl userDetailsService;
+    private final UserDetailsCache userDetailsCache;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RevokedTokenList revokedTokenList;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -47,19 +59,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         jwt = authHeader.substring(7);
         try {
-            userEmail = jwtUtil.extractEmail(jwt);
+            // Verification checks signature and expiry, an invalid token throws here
+            VerifiedToken token = verifiedTokenCache.get(jwt, this::verify);
+            userEmail = token.email();
 
-            if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
+            if (token.tokenId() != null && revokedTokenList.isRevoked(token.tokenId())) {
+                log.debug("Rejected revoked token {}", token.tokenId());
+            } else if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                UserDetails userDetails = resolveUser(token);
 
-                if (jwtUtil.validateToken(jwt, userEmail)) {
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails,
-                            null,
-                            userDetails.getAuthorities());
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                }
+                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                        userDetails,
+                        null,
+                        userDetails.getAuthorities());
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
             }
         } catch (Exception e) {
             log.error("Cannot set user authentication: {}", e.getMessage());
@@ -67,4 +81,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Helper method to pick the principal source: the optional user cache when
+     * fresh role checks are configured, otherwise the token itself. Tokens issued
+     * before the identity claims existed still fall back to a lookup.
+     */
+    private UserDetails resolveUser(VerifiedToken token) {
+        if (userDetailsCache.isEnabled()) {
+            return userDetailsCache.get(token.email());
+        }
+        return token.principal() != null ? token.principal() : userDetailsService.loadUserByUsername(token.email());
+    }
+
+    private VerifiedToken verify(String jwt) {
+        Claims claims = jwtUtil.extractAllClaims(jwt);
+        return new VerifiedToken(claims.getId(), claims.getSubject(), jwtUtil.toUserDetails(claims),
+                claims.getExpiration().getTime());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,213 @@
+package com.akshat.ecommerce.filter;
+
+import com.akshat.ecommerce.config.AppConfig;
+import com.akshat.ecommerce.exception.GlobalExceptionHandler.ErrorResponse;
+import com.akshat.ecommerce.secuity.CustomUserDetails;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rate Limiting Filter
+ * Design Pattern: Filter Pattern, Token Bucket (GCRA form)
+ * Security: Per-client limits per route group, keyed by user id when
+ * authenticated, otherwise by remote address. Registered after the security
+ * chain, so the authenticated user is known.
+ * Optimization: Each bucket is a single AtomicLong holding the theoretical
+ * arrival time, updated by one CAS, so there are no locks and no refill timers.
+ * A bucket whose arrival time has passed is full, identical to a new one, so
+ * sweeping those when a group exceeds its client bound loses no state.
+ */
+@Component
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final AppConfig.RateLimit settings;
+    private final String apiUrl;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<RouteGroup> groups = new ArrayList<>();
+
+    public RateLimitFilter(AppConfig appConfig, @Value("${api.url}") String apiUrl, ObjectMapper objectMapper) {
+        this.settings = appConfig.getRateLimit();
+        this.apiUrl = apiUrl;
+        this.objectMapper = objectMapper;
+        settings.getGroups().forEach((name, group) -> groups.add(new RouteGroup(name, group)));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !settings.isEnabled() || !request.getRequestURI().startsWith(apiUrl);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        RouteGroup group = resolveGroup(request.getRequestURI().substring(apiUrl.length()));
+        if (group != null) {
+            long retryAfterNanos = group.tryAcquire(clientKey(request), System.nanoTime());
+            if (retryAfterNanos > 0) {
+                group.rejected.increment();
+                reject(response, retryAfterNanos);
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Logs rejections per group since the last report; the counters double as the
+     * rejection metrics until a metrics registry is wired in.
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void reportRejections() {
+        for (RouteGroup group : groups) {
+            long rejected = group.rejected.sumThenReset();
+            if (rejected > 0) {
+                log.warn("Rate limit rejected {} requests in group '{}' ({} clients tracked)",
+                        rejected, group.name, group.buckets.size());
+            }
+        }
+    }
+
+    private RouteGroup resolveGroup(String path) {
+        for (RouteGroup group : groups) {
+            for (String pattern : group.paths) {
+                if (pathMatcher.match(pattern, path)) {
+                    return group;
+                }
+            }
+        }
+        return null;
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails user
+                && user.getId() != null) {
+            return user.getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos + 999_999_999L));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error("Too Many Requests")
+                .message("Rate limit exceeded, retry in " + retryAfterSeconds + "s")
+                .build());
+    }
+
+    final class RouteGroup {
+        private final String name;
+        private final List<String> paths;
+        private final long intervalNanos;
+        private final long toleranceNanos;
+        final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+        private final AtomicBoolean sweeping = new AtomicBoolean();
+        private final LongAdder rejected = new LongAdder();
+
+        RouteGroup(String name, AppConfig.RateLimit.Group group) {
+            // A zero rate would turn the interval into Long.MAX_VALUE and overflow the arithmetic below
+            if (!(group.getRequestsPerSecond() > 0)) {
+                throw new IllegalArgumentException("Rate limit group '" + name
+                        + "': requests-per-second must be greater than 0");
+            }
+            if (group.getBurst() < 0) {
+                throw new IllegalArgumentException("Rate limit group '" + name + "': burst cannot be negative");
+            }
+            this.name = name;
+            this.paths = List.copyOf(group.getPaths());
+            this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / group.getRequestsPerSecond());
+            this.toleranceNanos = intervalNanos * Math.max(group.getBurst(), 1);
+        }
+
+        /**
+         * @param now the caller's System.nanoTime()
+         * @return 0 when the request is admitted, otherwise the wait until it would be
+         */
+        long tryAcquire(String client, long now) {
+            AtomicLong arrival = buckets.get(client);
+            boolean created = false;
+            if (arrival == null) {
+                // An arrival time of now is a full bucket
+                arrival = buckets.computeIfAbsent(client, key -> new AtomicLong(now));
+                created = true;
+            }
+
+            long retryAfterNanos = acquire(arrival, now);
+            // Swept after admission, so the new client's bucket already counts as in use
+            if (created && buckets.size() > settings.getMaxClients()) {
+                sweep(now);
+            }
+            return retryAfterNanos;
+        }
+
+        private long acquire(AtomicLong arrival, long now) {
+            while (true) {
+                long current = arrival.get();
+                long next = (current - now > 0 ? current : now) + intervalNanos;
+                long excess = next - now - toleranceNanos;
+                if (excess > 0) {
+                    return excess;
+                }
+                if (arrival.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+
+        /**
+         * Drops full buckets first; if the group is still over its bound, removes
+         * arbitrary buckets until it fits again. One sweeping thread at a time.
+         */
+        private void sweep(long now) {
+            if (!sweeping.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                buckets.values().removeIf(arrival -> arrival.get() - now <= 0);
+
+                Iterator<Map.Entry<String, AtomicLong>> iterator = buckets.entrySet().iterator();
+                while (buckets.size() > settings.getMaxClients() && iterator.hasNext()) {
+                    iterator.next();
+                    iterator.remove();
+                }
+            } finally {
+                sweeping.set(false);
+            }
+        }
+    }
+}
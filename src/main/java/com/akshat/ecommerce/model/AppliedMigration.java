@@ -0,0 +1,29 @@
+package com.akshat.ecommerce.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Applied Migration Entity
+ * Design Pattern: Migration Log
+ * Optimization: One document per finished startup migration, so later starts
+ * skip it with a single _id lookup instead of scanning the data again
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "migrations")
+public class AppliedMigration {
+
+    @Id
+    private String id;
+
+    private LocalDateTime appliedAt;
+}
@@ -0,0 +1,29 @@
+package com.akshat.ecommerce.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Catalog Version Entity
+ * Design Pattern: Version Stamp Pattern
+ * Optimization: Shared counters bumped on every product/category write, cheap to
+ * read for conditional GETs and cache invalidation across nodes
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "catalog_versions")
+public class CatalogVersion {
+    public static final String CATALOG_ID = "catalog";
+
+    @Id
+    private String id;
+
+    private long products;
+    private long categories;
+}
@@ -9,12 +9,17 @@ import org.springframework.data.mongodb.core.mapping.Document;
 
 import jakarta.validation.constraints.NotBlank;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import org.springframework.data.mongodb.core.index.Indexed;
 
 /**
  * Category Entity
  * Design Pattern: Builder Pattern (via Lombok)
  * SOLID: Single Responsibility - represents only category data
+ * Structure: Hierarchy stored as a materialized ancestor path, so subtree lookups
+ * never recurse
  */
 @Data
 @Builder
@@ -31,4 +36,15 @@ public class Category {
 
     private String icon;
     private String color;
+
+    // Null for top-level categories
+    @Indexed
+    private String parentId;
+
+    // Ids from the root down to the parent; empty for top-level categories
+    @Indexed
+    private List<String> ancestors;
+
+    // Stamped on every write, source of the category ETag
+    private LocalDateTime lastModified;
 }
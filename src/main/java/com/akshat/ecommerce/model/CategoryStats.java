@@ -0,0 +1,29 @@
+package com.akshat.ecommerce.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Category Stats Entity
+ * Design Pattern: Sidecar Document, Materialized Aggregate
+ * Optimization: Product counts per category kept up to date with $inc on product
+ * writes, so menus never count products per render. Kept apart from Category so
+ * stock changes do not invalidate the category snapshot.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "category_stats")
+public class CategoryStats {
+    // Same id as the category
+    @Id
+    private String id;
+
+    private long productCount;
+    private long inStockCount;
+}
@@ -0,0 +1,26 @@
+package com.akshat.ecommerce.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Category Summary Value Object
+ * Design Pattern: Value Object Pattern, Denormalization
+ * Optimization: Embedded in products instead of a DBRef, so reading a product
+ * never costs an extra category lookup; full category data comes from the
+ * in-memory category table
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategorySummary {
+    private String id;
+    private String name;
+
+    public static CategorySummary of(Category category) {
+        return new CategorySummary(category.getId(), category.getName());
+    }
+}
@@ -6,8 +6,12 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
-import org.springframework.data.mongodb.core.mapping.DBRef;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
 
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
@@ -17,17 +21,29 @@ import jakarta.validation.constraints.NotNull;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Product Entity
- * Design Pattern: Builder Pattern, Composition Pattern (Category reference)
+ * Design Pattern: Builder Pattern, Composition Pattern (embedded Category summary)
  * SOLID: Single Responsibility, Open/Closed (extensible via inheritance)
+ * Optimization: Compound indexes for the common filter + sort combinations of
+ * product search (equality key first, then the range/sort key)
  */
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "products")
+@CompoundIndexes({
+        @CompoundIndex(name = "category_price", def = "{ 'category._id': 1, 'price': 1 }"),
+        @CompoundIndex(name = "category_rating", def = "{ 'category._id': 1, 'rating': -1 }"),
+        @CompoundIndex(name = "category_dateCreated", def = "{ 'category._id': 1, 'dateCreated': -1 }"),
+        @CompoundIndex(name = "brand_price", def = "{ 'brand': 1, 'price': 1 }"),
+        @CompoundIndex(name = "brand_rating", def = "{ 'brand': 1, 'rating': -1 }"),
+        // Brand filter with the default newest-first sort
+        @CompoundIndex(name = "brand_dateCreated", def = "{ 'brand': 1, 'dateCreated': -1 }")
+})
 public class Product {
     @Id
     private String id;
@@ -43,24 +59,37 @@ public class Product {
 
     @NotNull(message = "Price is required")
     @DecimalMin(value = "0.0", inclusive = false, message = "Price must be greater than 0")
+    @Field(targetType = FieldType.DECIMAL128)
+    @Indexed
     private BigDecimal price;
 
-    @DBRef
+    // Embedded summary; full category data is resolved from the in-memory category table
     @NotNull(message = "Category is required")
-    private Category category;
+    private CategorySummary category;
 
     @Min(value = 0, message = "Stock count cannot be negative")
     private Integer countInStock;
 
     @Builder.Default
+    @Indexed
     private Double rating = 0.0;
 
     @Builder.Default
     private Integer numReviews = 0;
 
+    // Running aggregates maintained atomically by review writes; rating = ratingSum / numReviews
+    private Double ratingSum;
+
+    // Review count per star value, keyed "1".."5"
+    private Map<String, Integer> ratingHistogram;
+
     @Builder.Default
     private Boolean isFeatured = false;
 
     @CreatedDate
+    @Indexed
     private LocalDateTime dateCreated;
+
+    // Stamped on every write, source of the product ETag
+    private LocalDateTime lastModified;
 }
\ No newline at end of file
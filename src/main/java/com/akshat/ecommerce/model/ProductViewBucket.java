@@ -0,0 +1,35 @@
+package com.akshat.ecommerce.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Product View Bucket Entity
+ * Design Pattern: Time Bucket Pattern
+ * Analytics: Hourly view count per product, the persisted source of trending
+ * scores; buckets expire on their own after a week
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "product_view_buckets")
+public class ProductViewBucket {
+    // productId:epochHour
+    @Id
+    private String id;
+
+    private String productId;
+
+    @Indexed(expireAfterSeconds = 7 * 24 * 3600)
+    private LocalDateTime bucketStart;
+
+    private long views;
+}
@@ -0,0 +1,46 @@
+package com.akshat.ecommerce.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+import java.time.LocalDateTime;
+
+/**
+ * Review Entity
+ * Design Pattern: Builder Pattern
+ * Business Logic: One review per user and product
+ * Optimization: Listing index matches the keyset order (newest first, id as tie breaker)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "reviews")
+@CompoundIndexes({
+        @CompoundIndex(name = "product_user", def = "{ 'productId': 1, 'userId': 1 }", unique = true),
+        @CompoundIndex(name = "product_dateCreated", def = "{ 'productId': 1, 'dateCreated': -1, '_id': -1 }")
+})
+public class Review {
+    @Id
+    private String id;
+
+    private String productId;
+    private String userId;
+    private String userName;
+
+    @Min(value = 1, message = "Rating must be between 1 and 5")
+    @Max(value = 5, message = "Rating must be between 1 and 5")
+    private int rating;
+
+    private String comment;
+    private LocalDateTime dateCreated;
+}
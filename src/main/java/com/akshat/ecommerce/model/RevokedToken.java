@@ -0,0 +1,37 @@
+package com.akshat.ecommerce.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Revoked Token Entity
+ * Design Pattern: Builder Pattern
+ * Optimization: Removed by a TTL index once the token would have expired anyway,
+ * so the denylist only ever holds tokens that are still otherwise valid
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "revoked_tokens")
+public class RevokedToken {
+    // The token's jti claim
+    @Id
+    private String id;
+
+    private String userId;
+
+    // Polled by every node to pick up revocations made elsewhere
+    @Indexed
+    private LocalDateTime revokedAt;
+
+    @Indexed(expireAfter = "0s")
+    private LocalDateTime expiresAt;
+}
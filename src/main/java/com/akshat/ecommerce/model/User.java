@@ -10,18 +10,21 @@ import org.springframework.data.mongodb.core.mapping.Document;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 
 /**
  * User Entity
  * Design Pattern: Builder Pattern, Value Object Pattern (address fields)
  * Security: Password is hashed, not stored in plain text
+ * Optimization: Name index matches the directory keyset order (name, id as tie breaker)
  */
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "users")
+@CompoundIndex(name = "name_id", def = "{ 'name': 1, '_id': 1 }")
 public class User {
     @Id
     private String id;
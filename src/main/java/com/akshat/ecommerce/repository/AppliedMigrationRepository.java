@@ -0,0 +1,13 @@
+package com.akshat.ecommerce.repository;
+
+import com.akshat.ecommerce.model.AppliedMigration;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Applied Migration Repository
+ * Design Pattern: Repository Pattern
+ */
+@Repository
+public interface AppliedMigrationRepository extends MongoRepository<AppliedMigration, String> {
+}
@@ -0,0 +1,13 @@
+package com.akshat.ecommerce.repository;
+
+import com.akshat.ecommerce.model.CatalogVersion;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Catalog Version Repository
+ * Design Pattern: Repository Pattern
+ */
+@Repository
+public interface CatalogVersionRepository extends MongoRepository<CatalogVersion, String>, CatalogVersionRepositoryCustom {
+}
@@ -0,0 +1,14 @@
+package com.akshat.ecommerce.repository;
+
+/**
+ * Catalog Version Repository atomic counters
+ * Design Pattern: Repository Pattern (custom fragment)
+ */
+public interface CatalogVersionRepositoryCustom {
+
+    /**
+     * Atomically increments one counter of the version document, creating it on
+     * first use.
+     */
+    void increment(String id, String counter);
+}
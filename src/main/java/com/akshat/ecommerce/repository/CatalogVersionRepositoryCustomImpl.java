@@ -0,0 +1,24 @@
+package com.akshat.ecommerce.repository;
+
+import com.akshat.ecommerce.model.CatalogVersion;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * Catalog Version Repository atomic counters implementation
+ * Design Pattern: Repository Pattern, Template Method Pattern (MongoTemplate)
+ */
+@RequiredArgsConstructor
+public class CatalogVersionRepositoryCustomImpl implements CatalogVersionRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void increment(String id, String counter) {
+        mongoTemplate.upsert(Query.query(Criteria.where("id").is(id)), new Update().inc(counter, 1),
+                CatalogVersion.class);
+    }
+}
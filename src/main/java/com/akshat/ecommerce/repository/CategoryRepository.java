@@ -4,8 +4,11 @@ package com.akshat.ecommerce.repository;
 
 import com.akshat.ecommerce.model.Category;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -18,4 +21,8 @@ public interface CategoryRepository extends MongoRepository<Category, String> {
     Optional<Category> findByName(String name);
 
     boolean existsByName(String name);
+
+    boolean existsByParentId(String parentId);
+
+    List<Category> findByParentIdIn(Collection<String> parentIds);
 }
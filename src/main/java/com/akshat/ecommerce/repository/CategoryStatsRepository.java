@@ -0,0 +1,13 @@
+package com.akshat.ecommerce.repository;
+
+import com.akshat.ecommerce.model.CategoryStats;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Category Stats Repository
+ * Design Pattern: Repository Pattern
+ */
+@Repository
+public interface CategoryStatsRepository extends MongoRepository<CategoryStats, String>, CategoryStatsRepositoryCustom {
+}
@@ -0,0 +1,20 @@
+package com.akshat.ecommerce.repository;
+
+import com.akshat.ecommerce.model.CategoryStats;
+
+import java.util.Collection;
+
+/**
+ * Category Stats Repository atomic counters
+ * Design Pattern: Repository Pattern (custom fragment)
+ */
+public interface CategoryStatsRepositoryCustom {
+
+    void increment(String categoryId, long productDelta, long inStockDelta);
+
+    /**
+     * Overwrites the given counts with one unordered bulk of upserts. With
+     * removeOthers, stats of categories missing from counts are deleted.
+     */
+    void replaceCounts(Collection<CategoryStats> counts, boolean removeOthers);
+}
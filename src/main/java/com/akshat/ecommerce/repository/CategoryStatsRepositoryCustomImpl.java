@@ -0,0 +1,48 @@
+package com.akshat.ecommerce.repository;
+
+import com.akshat.ecommerce.model.CategoryStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Category Stats Repository atomic counters implementation
+ * Design Pattern: Repository Pattern, Template Method Pattern (MongoTemplate)
+ */
+@RequiredArgsConstructor
+public class CategoryStatsRepositoryCustomImpl implements CategoryStatsRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void increment(String categoryId, long productDelta, long inStockDelta) {
+        mongoTemplate.upsert(Query.query(Criteria.where("id").is(categoryId)),
+                new Update().inc("productCount", productDelta).inc("inStockCount", inStockDelta),
+                CategoryStats.class);
+    }
+
+    @Override
+    public void replaceCounts(Collection<CategoryStats> counts, boolean removeOthers) {
+        if (!counts.isEmpty()) {
+            BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, CategoryStats.class);
+            for (CategoryStats stats : counts) {
+                operations.upsert(Query.query(Criteria.where("id").is(stats.getId())),
+                        new Update()
+                                .set("productCount", stats.getProductCount())
+                                .set("inStockCount", stats.getInStockCount()));
+            }
+            operations.execute();
+        }
+        if (removeOthers) {
+            List<String> ids = counts.stream().map(CategoryStats::getId).collect(Collectors.toList());
+            mongoTemplate.remove(Query.query(Criteria.where("id").nin(ids)), CategoryStats.class);
+        }
+    }
+}
@@ -16,12 +16,15 @@ import java.util.List;
  * Analytics: Statistical queries for business intelligence
  */
 @Repository
-public interface OrderRepository extends MongoRepository<Order, String> {
+public interface OrderRepository extends MongoRepository<Order, String>, OrderRepositoryCustom {
 
     List<Order> findByUserId(String userId);
 
     Page<Order> findByUserId(String userId, Pageable pageable);
 
+    // Ownership check, resolves to { _id, user.$id } without loading the order
+    boolean existsByIdAndUserId(String id, String userId);
+
     @Query("{ 'status': ?0 }")
     List<Order> findByStatus(String status);
 
@@ -0,0 +1,17 @@
+package com.akshat.ecommerce.repository;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Order Repository streaming scans
+ * Design Pattern: Repository Pattern (custom fragment), Iterator Pattern (cursor)
+ */
+public interface OrderRepositoryCustom {
+
+    /**
+     * Streams the product ids of every order through a server-side cursor without
+     * resolving the product DBRefs.
+     */
+    void scanOrderProductIds(int batchSize, Consumer<List<String>> consumer);
+}
@@ -0,0 +1,51 @@
+package com.akshat.ecommerce.repository;
+
+import com.akshat.ecommerce.model.Order;
+import com.mongodb.DBRef;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Projections;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Order Repository streaming scans implementation
+ * Design Pattern: Repository Pattern, Template Method Pattern (MongoTemplate)
+ * Optimization: Reads raw documents with a projection, so only the product
+ * references travel and no DBRef is resolved
+ */
+@RequiredArgsConstructor
+public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void scanOrderProductIds(int batchSize, Consumer<List<String>> consumer) {
+        try (MongoCursor<Document> cursor = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Order.class))
+                .find()
+                .projection(Projections.include("orderItems.product"))
+                .batchSize(batchSize)
+                .iterator()) {
+            while (cursor.hasNext()) {
+                List<Document> orderItems = cursor.next().getList("orderItems", Document.class);
+                if (orderItems == null) {
+                    continue;
+                }
+                List<String> productIds = new ArrayList<>(orderItems.size());
+                for (Document orderItem : orderItems) {
+                    Object product = orderItem.get("product");
+                    if (product instanceof DBRef reference) {
+                        Object id = reference.getId();
+                        productIds.add(id instanceof ObjectId objectId ? objectId.toHexString() : id.toString());
+                    }
+                }
+                consumer.accept(productIds);
+            }
+        }
+    }
+}
@@ -3,11 +3,14 @@ package com.akshat.ecommerce.repository;
 import com.akshat.ecommerce.model.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Product Repository
@@ -15,18 +18,31 @@ import java.util.List;
  * Optimization: Pagination support, custom queries for performance
  */
 @Repository
-public interface ProductRepository extends MongoRepository<Product, String> {
+public interface ProductRepository extends MongoRepository<Product, String>, ProductRepositoryCustom {
 
-    List<Product> findByCategoryId(String categoryId);
+    /** Projection used by listing cards, keeps descriptions and image galleries off the wire */
+    String CARD_FIELDS = "{ 'name': 1, 'image': 1, 'price': 1, 'rating': 1, 'countInStock': 1 }";
 
     List<Product> findByIsFeaturedTrue();
 
-    @Query("{ 'name': { $regex: ?0, $options: 'i' } }")
-    Page<Product> findByNameContainingIgnoreCase(String name, Pageable pageable);
+    /** Count-free listing, fetches one extra row to detect a next page */
+    Slice<Product> findAllBy(Pageable pageable);
 
-    @Query("{ 'category.id': ?0 }")
-    Page<Product> findByCategoryId(String categoryId, Pageable pageable);
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'lastModified': 1 }")
+    Optional<Product> findLastModifiedById(String id);
 
-    @Query("{ $and: [ { 'name': { $regex: ?0, $options: 'i' } }, { 'category.id': ?1 } ] }")
-    Page<Product> findByNameContainingIgnoreCaseAndCategoryId(String name, String categoryId, Pageable pageable);
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'category': 1, 'countInStock': 1 }")
+    Optional<Product> findPlacementById(String id);
+
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'rating': 1, 'numReviews': 1, 'ratingHistogram': 1 }")
+    Optional<Product> findRatingSummaryById(String id);
+
+    @Query(value = "{ 'category.id': { $in: ?0 } }", fields = CARD_FIELDS)
+    Page<Product> findCardsByCategoryIdIn(Collection<String> categoryIds, Pageable pageable);
+
+    @Query(value = "{ 'category.id': { $in: ?0 } }", fields = CARD_FIELDS)
+    Slice<Product> findCardSliceByCategoryIdIn(Collection<String> categoryIds, Pageable pageable);
+
+    @Query(value = "{ '_id': { $in: ?0 } }", fields = CARD_FIELDS)
+    List<Product> findCardsByIdIn(Collection<String> ids);
 }
@@ -0,0 +1,122 @@
+package com.akshat.ecommerce.repository;
+
+import com.akshat.ecommerce.dto.request.ProductSearchCriteria;
+import com.akshat.ecommerce.model.CategoryStats;
+import com.akshat.ecommerce.model.Product;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Product Repository bulk operations
+ * Design Pattern: Repository Pattern (custom fragment)
+ * Optimization: Batched writes instead of one round trip per document
+ */
+public interface ProductRepositoryCustom {
+
+    /**
+     * Filtered product search; every non-null criterion becomes a query predicate
+     * so the compound indexes declared on {@link Product} can bound the scan.
+     */
+    Page<Product> search(ProductSearchCriteria criteria, Pageable pageable);
+
+    /**
+     * Same filter as {@link #search} without the count query; one extra row is
+     * fetched to tell whether a next page exists.
+     */
+    Slice<Product> searchSlice(ProductSearchCriteria criteria, Pageable pageable);
+
+    /**
+     * Inserts the batch with a single unordered insertMany. A failing document
+     * does not stop the rest of the batch.
+     *
+     * @return failure reasons keyed by the index of the document in the batch
+     */
+    Map<Integer, String> insertUnordered(List<Product> products);
+
+    /**
+     * Applies all updates as one unordered bulkWrite of updateOne operations,
+     * without loading the documents first. Each operation is atomic on its own
+     * document; this holds because no product writer replaces whole documents,
+     * every other path is an insert or a targeted $set, $inc or $push. A failing
+     * operation does not stop the rest, the others stay applied.
+     */
+    BulkUpdateResult updateUnordered(List<Pair<Query, Update>> updates);
+
+    /**
+     * One updateOne on its own, for callers that need to know whether this
+     * particular filter matched; a bulkWrite only reports totals.
+     *
+     * @return true if a document matched
+     */
+    boolean updateOne(Pair<Query, Update> update);
+
+    /**
+     * The given ids that belong to existing products, read from the _id index only.
+     */
+    List<String> findExistingIds(Collection<String> productIds);
+
+    /**
+     * Rewrites the embedded category summary of every product in the category.
+     *
+     * @return number of products updated
+     */
+    long updateCategoryName(String categoryId, String name);
+
+    /**
+     * Appends an image URL with $push instead of rewriting the whole document.
+     *
+     * @return whether the product exists
+     */
+    boolean addImage(String productId, String imageUrl, LocalDateTime lastModified);
+
+    /**
+     * Adds delta to countInStock with a single atomic $inc. A decrement only matches
+     * while at least -delta units are left, so concurrent orders cannot oversell.
+     *
+     * @return the product as it was before the update, empty when it does not exist
+     * or has too little stock
+     */
+    Optional<Product> adjustStock(String productId, int delta, LocalDateTime lastModified);
+
+    /**
+     * Overwrites the admin-editable fields with one $set, null fields are unset. The
+     * review aggregates are never part of it, so ratings applied concurrently are kept.
+     *
+     * @return the updated product, empty when it does not exist
+     */
+    Optional<Product> updateDetails(String productId, Product details);
+
+    /**
+     * Product and in-stock counts per category computed server-side in one
+     * aggregation; a null categoryIds counts every category.
+     */
+    List<CategoryStats> countByCategory(Collection<String> categoryIds);
+
+    List<String> findCategoryIds(Collection<String> productIds);
+
+    /**
+     * Adds (direction 1) or removes (direction -1) one review rating in a single
+     * atomic pipeline update of ratingSum, numReviews, the histogram bucket and the
+     * derived average. Removals only match while the product still has reviews.
+     *
+     * @return whether a product was updated
+     */
+    boolean applyRating(String productId, int rating, int direction, LocalDateTime lastModified);
+
+    /**
+     * Totals of an unordered bulk update, with failure reasons keyed by the index
+     * of the operation in the batch
+     */
+    record BulkUpdateResult(int matched, int modified, Map<Integer, String> failures) {
+    }
+}
@@ -0,0 +1,288 @@
+package com.akshat.ecommerce.repository;
+
+import com.akshat.ecommerce.dto.request.ProductSearchCriteria;
+import com.akshat.ecommerce.model.CategoryStats;
+import com.akshat.ecommerce.model.Product;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.aggregation.SetOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.data.util.Pair;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Product Repository bulk operations implementation
+ * Design Pattern: Repository Pattern, Template Method Pattern (MongoTemplate)
+ */
+@RequiredArgsConstructor
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Page<Product> search(ProductSearchCriteria criteria, Pageable pageable) {
+        Criteria filter = toCriteria(criteria);
+        List<Product> products = mongoTemplate.find(Query.query(filter).with(pageable), Product.class);
+        return PageableExecutionUtils.getPage(products, pageable,
+                () -> mongoTemplate.count(Query.query(filter), Product.class));
+    }
+
+    @Override
+    public Slice<Product> searchSlice(ProductSearchCriteria criteria, Pageable pageable) {
+        Query query = Query.query(toCriteria(criteria)).with(pageable.getSort());
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(mongoTemplate.find(query, Product.class), pageable, false);
+        }
+        query.skip(pageable.getOffset()).limit(pageable.getPageSize() + 1);
+        List<Product> products = mongoTemplate.find(query, Product.class);
+        boolean hasNext = products.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? products.subList(0, pageable.getPageSize()) : products, pageable, hasNext);
+    }
+
+    @Override
+    public Map<Integer, String> insertUnordered(List<Product> products) {
+        if (products.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Product.class)
+                    .insert(products)
+                    .execute();
+            return Collections.emptyMap();
+        } catch (BulkOperationException e) {
+            Map<Integer, String> failures = new HashMap<>();
+            for (BulkWriteError error : e.getErrors()) {
+                failures.put(error.getIndex(), error.getMessage());
+            }
+            return failures;
+        }
+    }
+
+    @Override
+    public BulkUpdateResult updateUnordered(List<Pair<Query, Update>> updates) {
+        if (updates.isEmpty()) {
+            return new BulkUpdateResult(0, 0, Collections.emptyMap());
+        }
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Product.class);
+        for (Pair<Query, Update> update : updates) {
+            operations.updateOne(update.getFirst(), update.getSecond());
+        }
+        try {
+            BulkWriteResult result = operations.execute();
+            return new BulkUpdateResult(result.getMatchedCount(), result.getModifiedCount(), Collections.emptyMap());
+        } catch (BulkOperationException e) {
+            Map<Integer, String> failures = new HashMap<>();
+            for (BulkWriteError error : e.getErrors()) {
+                failures.put(error.getIndex(), error.getMessage());
+            }
+            return new BulkUpdateResult(e.getResult().getMatchedCount(), e.getResult().getModifiedCount(), failures);
+        }
+    }
+
+    @Override
+    public boolean updateOne(Pair<Query, Update> update) {
+        return mongoTemplate.updateFirst(update.getFirst(), update.getSecond(), Product.class).getMatchedCount() > 0;
+    }
+
+    @Override
+    public List<String> findExistingIds(Collection<String> productIds) {
+        Query query = Query.query(Criteria.where("id").in(productIds));
+        query.fields().include("id");
+        return mongoTemplate.find(query, Product.class).stream()
+                .map(Product::getId)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long updateCategoryName(String categoryId, String name) {
+        return mongoTemplate.updateMulti(Query.query(Criteria.where("category.id").is(categoryId)),
+                new Update().set("category.name", name), Product.class)
+                .getModifiedCount();
+    }
+
+    @Override
+    public boolean addImage(String productId, String imageUrl, LocalDateTime lastModified) {
+        return mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(productId)),
+                new Update().push("images", imageUrl).set("lastModified", lastModified), Product.class)
+                .getMatchedCount() > 0;
+    }
+
+    @Override
+    public Optional<Product> adjustStock(String productId, int delta, LocalDateTime lastModified) {
+        Criteria criteria = Criteria.where("id").is(productId);
+        if (delta < 0) {
+            criteria = criteria.and("countInStock").gte(-delta);
+        }
+        return Optional.ofNullable(mongoTemplate.findAndModify(Query.query(criteria),
+                new Update().inc("countInStock", delta).set("lastModified", lastModified),
+                FindAndModifyOptions.options().returnNew(false), Product.class));
+    }
+
+    @Override
+    public Optional<Product> updateDetails(String productId, Product details) {
+        Update update = new Update();
+        setOrUnset(update, "name", details.getName());
+        setOrUnset(update, "description", details.getDescription());
+        setOrUnset(update, "richDescription", details.getRichDescription());
+        setOrUnset(update, "image", details.getImage());
+        setOrUnset(update, "images", details.getImages());
+        setOrUnset(update, "brand", details.getBrand());
+        setOrUnset(update, "price", details.getPrice());
+        setOrUnset(update, "category", details.getCategory());
+        setOrUnset(update, "countInStock", details.getCountInStock());
+        setOrUnset(update, "isFeatured", details.getIsFeatured());
+        setOrUnset(update, "lastModified", details.getLastModified());
+        return Optional.ofNullable(mongoTemplate.findAndModify(Query.query(Criteria.where("id").is(productId)),
+                update, FindAndModifyOptions.options().returnNew(true), Product.class));
+    }
+
+    @Override
+    public List<CategoryStats> countByCategory(Collection<String> categoryIds) {
+        List<AggregationOperation> operations = new ArrayList<>();
+        if (categoryIds != null) {
+            operations.add(Aggregation.match(Criteria.where("category.id").in(categoryIds)));
+        }
+        operations.add(Aggregation.group("category.id")
+                .count().as("productCount")
+                .sum(ConditionalOperators.when(ComparisonOperators.valueOf("countInStock").greaterThanValue(0))
+                        .then(1)
+                        .otherwise(0))
+                .as("inStockCount"));
+
+        return mongoTemplate.aggregate(Aggregation.newAggregation(Product.class, operations), Document.class)
+                .getMappedResults().stream()
+                .filter(result -> result.get("_id") != null)
+                .map(result -> CategoryStats.builder()
+                        .id(toIdString(result.get("_id")))
+                        .productCount(((Number) result.get("productCount")).longValue())
+                        .inStockCount(((Number) result.get("inStockCount")).longValue())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<String> findCategoryIds(Collection<String> productIds) {
+        return mongoTemplate.findDistinct(Query.query(Criteria.where("id").in(productIds)), "category.id",
+                Product.class, Object.class)
+                .stream()
+                .map(ProductRepositoryCustomImpl::toIdString)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean applyRating(String productId, int rating, int direction, LocalDateTime lastModified) {
+        String bucket = "ratingHistogram." + rating;
+        // Products rated before running sums existed start from rating * numReviews
+        AggregationExpression currentSum = ConditionalOperators.ifNull("ratingSum").thenValueOf(
+                ArithmeticOperators.valueOf(ConditionalOperators.ifNull("rating").then(0))
+                        .multiplyBy(ConditionalOperators.ifNull("numReviews").then(0)));
+
+        SetOperation totals = SetOperation.builder()
+                .set("ratingSum").toValueOf(ArithmeticOperators.valueOf(currentSum).add(direction * rating))
+                .and()
+                .set("numReviews").toValueOf(ArithmeticOperators.valueOf(
+                        ConditionalOperators.ifNull("numReviews").then(0)).add(direction))
+                .and()
+                .set(bucket).toValueOf(ArithmeticOperators.valueOf(
+                        ConditionalOperators.ifNull(bucket).then(0)).add(direction));
+        SetOperation average = SetOperation.builder()
+                .set("rating").toValueOf(ConditionalOperators
+                        .when(ComparisonOperators.valueOf("numReviews").greaterThanValue(0))
+                        .thenValueOf(ArithmeticOperators.valueOf("ratingSum").divideBy("numReviews"))
+                        .otherwise(0.0))
+                .and()
+                .set("lastModified").toValue(lastModified);
+
+        Criteria criteria = Criteria.where("id").is(productId);
+        if (direction < 0) {
+            criteria = criteria.and("numReviews").gte(1);
+        }
+        return mongoTemplate.updateFirst(Query.query(criteria), AggregationUpdate.from(List.of(totals, average)),
+                Product.class)
+                .getMatchedCount() > 0;
+    }
+
+    /**
+     * A null field is removed, as the whole-document save did, rather than stored
+     * as null; $inc on a missing countInStock still works, on a null it fails
+     */
+    private static void setOrUnset(Update update, String field, Object value) {
+        if (value != null) {
+            update.set(field, value);
+        } else {
+            update.unset(field);
+        }
+    }
+
+    private static String toIdString(Object id) {
+        return id instanceof ObjectId objectId ? objectId.toHexString() : id.toString();
+    }
+
+    /**
+     * Helper method to translate search criteria into a Mongo filter
+     * Equality predicates (category, brand) come first so they line up with the
+     * leading keys of the compound indexes, ranges and sorts follow
+     */
+    private Criteria toCriteria(ProductSearchCriteria searchCriteria) {
+        Criteria criteria = new Criteria();
+        if (searchCriteria.getCategoryIds() != null) {
+            // The subtree of categoryId, one $in over the category index
+            criteria.and("category.id").in(searchCriteria.getCategoryIds());
+        } else if (searchCriteria.getCategoryId() != null) {
+            criteria.and("category.id").is(searchCriteria.getCategoryId());
+        }
+        if (searchCriteria.getBrand() != null) {
+            criteria.and("brand").is(searchCriteria.getBrand());
+        }
+        if (searchCriteria.getMinPrice() != null || searchCriteria.getMaxPrice() != null) {
+            Criteria price = criteria.and("price");
+            if (searchCriteria.getMinPrice() != null) {
+                price.gte(searchCriteria.getMinPrice());
+            }
+            if (searchCriteria.getMaxPrice() != null) {
+                price.lte(searchCriteria.getMaxPrice());
+            }
+        }
+        if (searchCriteria.getMinRating() != null) {
+            criteria.and("rating").gte(searchCriteria.getMinRating());
+        }
+        if (Boolean.TRUE.equals(searchCriteria.getInStock())) {
+            criteria.and("countInStock").gt(0);
+        }
+        if (searchCriteria.getName() != null) {
+            criteria.and("name").regex(Pattern.quote(searchCriteria.getName()), "i");
+        }
+        return criteria;
+    }
+}
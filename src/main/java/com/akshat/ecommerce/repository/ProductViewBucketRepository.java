@@ -0,0 +1,14 @@
+package com.akshat.ecommerce.repository;
+
+import com.akshat.ecommerce.model.ProductViewBucket;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Product View Bucket Repository
+ * Design Pattern: Repository Pattern
+ */
+@Repository
+public interface ProductViewBucketRepository
+        extends MongoRepository<ProductViewBucket, String>, ProductViewBucketRepositoryCustom {
+}
@@ -0,0 +1,26 @@
+package com.akshat.ecommerce.repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Product View Bucket Repository bulk operations
+ * Design Pattern: Repository Pattern (custom fragment)
+ */
+public interface ProductViewBucketRepositoryCustom {
+
+    /**
+     * Adds the buffered views to the bucket with one unordered bulkWrite of $inc upserts.
+     */
+    void incrementViews(LocalDateTime bucketStart, Map<String, Long> viewsByProduct);
+
+    /**
+     * Ranks products by views since {@code since}, each bucket weighted by
+     * 0.5^(age / halfLife).
+     *
+     * @return product ids, highest score first
+     */
+    List<String> findTopProductIds(LocalDateTime since, Duration halfLife, int limit);
+}
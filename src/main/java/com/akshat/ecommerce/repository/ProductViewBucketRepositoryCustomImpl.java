@@ -0,0 +1,65 @@
+package com.akshat.ecommerce.repository;
+
+import com.akshat.ecommerce.model.ProductViewBucket;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Product View Bucket Repository bulk operations implementation
+ * Design Pattern: Repository Pattern, Template Method Pattern (MongoTemplate)
+ */
+@RequiredArgsConstructor
+public class ProductViewBucketRepositoryCustomImpl implements ProductViewBucketRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void incrementViews(LocalDateTime bucketStart, Map<String, Long> viewsByProduct) {
+        long epochHour = bucketStart.toEpochSecond(ZoneOffset.UTC) / 3600;
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductViewBucket.class);
+        viewsByProduct.forEach((productId, views) -> operations.upsert(
+                Query.query(Criteria.where("id").is(productId + ":" + epochHour)),
+                new Update()
+                        .inc("views", views)
+                        .setOnInsert("productId", productId)
+                        .setOnInsert("bucketStart", bucketStart)));
+        operations.execute();
+    }
+
+    @Override
+    public List<String> findTopProductIds(LocalDateTime since, Duration halfLife, int limit) {
+        Date now = new Date();
+        AggregationExpression decayedViews = context -> new Document("$multiply", List.of("$views",
+                new Document("$pow", List.of(0.5, new Document("$divide", List.of(
+                        new Document("$subtract", List.of(now, "$bucketStart")),
+                        halfLife.toMillis()))))));
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("bucketStart").gte(since)),
+                Aggregation.project("productId").and(decayedViews).as("score"),
+                Aggregation.group("productId").sum("score").as("score"),
+                Aggregation.sort(Sort.Direction.DESC, "score"),
+                Aggregation.limit(limit));
+
+        return mongoTemplate.aggregate(aggregation, ProductViewBucket.class, Document.class)
+                .getMappedResults().stream()
+                .map(result -> result.getString("_id"))
+                .collect(Collectors.toList());
+    }
+}
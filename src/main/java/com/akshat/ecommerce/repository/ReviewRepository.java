@@ -0,0 +1,13 @@
+package com.akshat.ecommerce.repository;
+
+import com.akshat.ecommerce.model.Review;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Review Repository
+ * Design Pattern: Repository Pattern
+ */
+@Repository
+public interface ReviewRepository extends MongoRepository<Review, String>, ReviewRepositoryCustom {
+}
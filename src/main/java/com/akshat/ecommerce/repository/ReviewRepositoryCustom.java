@@ -0,0 +1,26 @@
+package com.akshat.ecommerce.repository;
+
+import com.akshat.ecommerce.model.Review;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Review Repository keyset queries
+ * Design Pattern: Repository Pattern (custom fragment)
+ * Optimization: Keyset pagination, cost does not grow with the page depth
+ */
+public interface ReviewRepositoryCustom {
+
+    /**
+     * Reviews of a product, newest first, strictly after the given position.
+     * A null position starts from the newest review.
+     */
+    List<Review> findPageByProductId(String productId, LocalDateTime afterDate, String afterId, int limit);
+
+    /**
+     * @return whether this call removed the review, so concurrent deletes adjust
+     *         the product aggregates only once
+     */
+    boolean removeById(String reviewId);
+}
@@ -0,0 +1,42 @@
+package com.akshat.ecommerce.repository;
+
+import com.akshat.ecommerce.model.Review;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Review Repository keyset queries implementation
+ * Design Pattern: Repository Pattern, Template Method Pattern (MongoTemplate)
+ */
+@RequiredArgsConstructor
+public class ReviewRepositoryCustomImpl implements ReviewRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<Review> findPageByProductId(String productId, LocalDateTime afterDate, String afterId, int limit) {
+        Criteria criteria = Criteria.where("productId").is(productId);
+        if (afterDate != null) {
+            criteria = criteria.orOperator(
+                    Criteria.where("dateCreated").lt(afterDate),
+                    Criteria.where("dateCreated").is(afterDate).and("id").lt(new ObjectId(afterId)));
+        }
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "dateCreated", "id"))
+                .limit(limit);
+        return mongoTemplate.find(query, Review.class);
+    }
+
+    @Override
+    public boolean removeById(String reviewId) {
+        return mongoTemplate.remove(Query.query(Criteria.where("id").is(reviewId)), Review.class)
+                .getDeletedCount() > 0;
+    }
+}
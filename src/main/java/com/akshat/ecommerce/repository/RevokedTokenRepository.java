@@ -0,0 +1,18 @@
+package com.akshat.ecommerce.repository;
+
+import com.akshat.ecommerce.model.RevokedToken;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Revoked Token Repository
+ * Design Pattern: Repository Pattern
+ */
+@Repository
+public interface RevokedTokenRepository extends MongoRepository<RevokedToken, String> {
+
+    List<RevokedToken> findByRevokedAtGreaterThanEqual(LocalDateTime revokedAt);
+}
@@ -12,7 +12,7 @@ import java.util.Optional;
  * Security: Email-based user lookup for authentication
  */
 @Repository
-public interface UserRepository extends MongoRepository<User, String> {
+public interface UserRepository extends MongoRepository<User, String>, UserRepositoryCustom {
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
@@ -0,0 +1,41 @@
+package com.akshat.ecommerce.repository;
+
+import com.akshat.ecommerce.model.User;
+import com.mongodb.bulk.BulkWriteError;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * User Repository directory queries
+ * Design Pattern: Repository Pattern (custom fragment)
+ * Optimization: Keyset pagination over indexed sort keys, projected to the
+ * directory fields
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * One directory page strictly after the given position. With an email prefix
+     * users are ordered by email, with a name prefix by name then id, otherwise by
+     * id. Prefixes are case-sensitive so they stay index range scans. A null
+     * afterId starts from the first user.
+     */
+    List<User> findDirectoryPage(String emailPrefix, String namePrefix, String afterValue, String afterId,
+            int limit);
+
+    /**
+     * Inserts the batch with a single unordered insertMany. A failing document,
+     * such as a duplicate email, does not stop the rest of the batch.
+     *
+     * @return failures keyed by the index of the document in the batch
+     */
+    Map<Integer, BulkWriteError> insertUnordered(List<User> users);
+
+    /**
+     * Sets only the password hash, and only while the stored hash is still the
+     * expected one, so a password changed in the meantime is not overwritten.
+     *
+     * @return true if the hash was replaced
+     */
+    boolean replacePasswordHash(String userId, String expectedHash, String newHash);
+}
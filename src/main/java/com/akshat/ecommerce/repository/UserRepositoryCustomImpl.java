@@ -0,0 +1,91 @@
+package com.akshat.ecommerce.repository;
+
+import com.akshat.ecommerce.model.User;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * User Repository directory queries implementation
+ * Design Pattern: Repository Pattern, Template Method Pattern (MongoTemplate)
+ */
+@RequiredArgsConstructor
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<User> findDirectoryPage(String emailPrefix, String namePrefix, String afterValue, String afterId,
+            int limit) {
+        Query query;
+        if (emailPrefix != null) {
+            // Emails are unique, so the email alone is the keyset position
+            Criteria criteria = Criteria.where("email").regex(prefix(emailPrefix));
+            if (afterId != null) {
+                criteria.gt(afterValue);
+            }
+            query = Query.query(criteria).with(Sort.by(Sort.Direction.ASC, "email"));
+        } else if (namePrefix != null) {
+            Criteria criteria = Criteria.where("name").regex(prefix(namePrefix));
+            if (afterId != null) {
+                criteria = criteria.orOperator(
+                        Criteria.where("name").gt(afterValue),
+                        Criteria.where("name").is(afterValue).and("id").gt(new ObjectId(afterId)));
+            }
+            query = Query.query(criteria).with(Sort.by(Sort.Direction.ASC, "name", "id"));
+        } else {
+            Criteria criteria = afterId != null ? Criteria.where("id").gt(new ObjectId(afterId)) : new Criteria();
+            query = Query.query(criteria).with(Sort.by(Sort.Direction.ASC, "id"));
+        }
+
+        query.fields().include("name", "email", "isAdmin");
+        return mongoTemplate.find(query.limit(limit), User.class);
+    }
+
+    @Override
+    public Map<Integer, BulkWriteError> insertUnordered(List<User> users) {
+        if (users.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, User.class)
+                    .insert(users)
+                    .execute();
+            return Collections.emptyMap();
+        } catch (BulkOperationException e) {
+            Map<Integer, BulkWriteError> failures = new HashMap<>();
+            for (BulkWriteError error : e.getErrors()) {
+                failures.put(error.getIndex(), error);
+            }
+            return failures;
+        }
+    }
+
+    @Override
+    public boolean replacePasswordHash(String userId, String expectedHash, String newHash) {
+        return mongoTemplate.updateFirst(
+                Query.query(Criteria.where("id").is(userId).and("passwordHash").is(expectedHash)),
+                new Update().set("passwordHash", newHash), User.class)
+                .getModifiedCount() > 0;
+    }
+
+    /**
+     * Anchored, literal prefix; Mongo turns it into an index range
+     */
+    private static Pattern prefix(String value) {
+        return Pattern.compile("^" + Pattern.quote(value));
+    }
+}
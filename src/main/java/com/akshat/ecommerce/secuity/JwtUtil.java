@@ -3,40 +3,58 @@
 package com.akshat.ecommerce.secuity;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.UUID;
 import java.util.function.Function;
 
 /**
  * JWT Utility Class
  * Design Pattern: Utility Pattern, Strategy Pattern (token generation strategy)
  * Security: JWT token generation, validation, and extraction
+ * Optimization: Key and parser are built once; both are immutable and thread-safe
  */
 @Component
 public class JwtUtil {
 
+    // Signed identity claims, so authenticated requests need no user lookup
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ADMIN_CLAIM = "adm";
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
-    public String generateToken(String email) {
+    public String generateToken(String email, String userId, boolean isAdmin) {
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(email)
+                .claim(USER_ID_CLAIM, userId)
+                .claim(ADMIN_CLAIM, isAdmin)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
@@ -53,12 +71,29 @@ public class JwtUtil {
         return claimsResolver.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * Verifies the signature and expiry and returns the claims; throws a
+     * JwtException when either check fails. Callers needing several claims
+     * should parse once here rather than use the single-claim extractors.
+     */
+    public Claims extractAllClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * Rebuilds the principal from verified claims without touching the database.
+     * Returns null for tokens issued before the identity claims existed.
+     */
+    public CustomUserDetails toUserDetails(Claims claims) {
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        if (userId == null) {
+            return null;
+        }
+        return CustomUserDetails.builder()
+                .id(userId)
+                .email(claims.getSubject())
+                .isAdmin(Boolean.TRUE.equals(claims.get(ADMIN_CLAIM, Boolean.class)))
+                .build();
     }
 
     public Boolean isTokenExpired(String token) {
@@ -66,7 +101,8 @@ public class JwtUtil {
     }
 
     public Boolean validateToken(String token, String email) {
-        final String extractedEmail = extractEmail(token);
-        return (extractedEmail.equals(email) && !isTokenExpired(token));
+        // One parse, expiry is already enforced by the parser
+        final String extractedEmail = extractAllClaims(token).getSubject();
+        return extractedEmail.equals(email);
     }
 }
\ No newline at end of file
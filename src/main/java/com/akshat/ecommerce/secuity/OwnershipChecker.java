@@ -0,0 +1,37 @@
+package com.akshat.ecommerce.secuity;
+
+import com.akshat.ecommerce.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ownership Checks for method security
+ * Design Pattern: Policy Object, used from @PreAuthorize as @ownership
+ * Optimization: Answers ownership from the principal's user id instead of loading
+ * and mapping the guarded resource, which the method body then loads again. User
+ * checks need no query at all; order checks are one exists query on _id.
+ */
+@Component("ownership")
+@RequiredArgsConstructor
+public class OwnershipChecker {
+
+    private final OrderRepository orderRepository;
+
+    public boolean isSelf(Authentication authentication, String userId) {
+        String principalId = principalId(authentication);
+        return principalId != null && principalId.equals(userId);
+    }
+
+    public boolean ownsOrder(Authentication authentication, String orderId) {
+        String principalId = principalId(authentication);
+        return principalId != null && orderRepository.existsByIdAndUserId(orderId, principalId);
+    }
+
+    private static String principalId(Authentication authentication) {
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails user) {
+            return user.getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,15 @@
+package com.akshat.ecommerce.service;
+
+import com.akshat.ecommerce.model.CatalogVersion;
+
+/**
+ * Catalog Version Service Interface
+ * Design Pattern: Version Stamp Pattern
+ * Optimization: Validators for conditional GETs on catalog collection endpoints
+ */
+public interface CatalogVersionService {
+    CatalogVersion getCurrentVersion();
+
+    /** ETag for product collections; product payloads embed category data */
+    String getCatalogETag();
+}
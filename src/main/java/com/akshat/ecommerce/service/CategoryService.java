@@ -3,6 +3,7 @@ package com.akshat.ecommerce.service;
 
 import com.akshat.ecommerce.dto.request.CategoryRequestDto;
 import com.akshat.ecommerce.dto.response.CategoryResponseDto;
+import com.akshat.ecommerce.dto.response.CategoryTreeNodeDto;
 
 import java.util.List;
 
@@ -17,8 +18,16 @@ public interface CategoryService {
 
     CategoryResponseDto getCategoryById(String id);
 
+    String getCategoryETag(String id);
+
+    String getCategoriesETag();
+
     List<CategoryResponseDto> getAllCategories();
 
+    List<CategoryTreeNodeDto> getCategoryTree();
+
+    List<CategoryResponseDto> getBreadcrumbs(String id);
+
     CategoryResponseDto updateCategory(String id, CategoryRequestDto categoryRequestDto);
 
     void deleteCategory(String id);
@@ -0,0 +1,43 @@
+package com.akshat.ecommerce.service;
+
+import com.akshat.ecommerce.model.CategoryStats;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Category Stats Service Interface
+ * Design Pattern: Materialized Aggregate maintenance
+ * Business Logic: Product and in-stock counts per category for navigation
+ */
+public interface CategoryStatsService {
+
+    /**
+     * Records one product moving between (category, stock) placements. A null
+     * fromCategoryId means the product was created, a null toCategoryId that it was
+     * deleted. Nothing is written when the counts do not change.
+     */
+    void recordMove(String fromCategoryId, Integer fromStock, String toCategoryId, Integer toStock);
+
+    /**
+     * Recounts the categories of the given products, for writes that changed stock
+     * without reading the products first.
+     */
+    void recountForProducts(Collection<String> productIds);
+
+    void rebuild();
+
+    /**
+     * Drops the counts of a deleted category.
+     */
+    void deleteStats(String categoryId);
+
+    Optional<CategoryStats> getStats(String categoryId);
+
+    /**
+     * Counts of every category, served from memory; reloaded after writes on this
+     * node and when the products version shows writes on other nodes.
+     */
+    Map<String, CategoryStats> getAllStats();
+}
@@ -0,0 +1,25 @@
+package com.akshat.ecommerce.service;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.file.Path;
+
+/**
+ * Image Storage Service Interface
+ * Design Pattern: Strategy Pattern (storage backend behind an interface)
+ * Business Logic: Product image upload, thumbnails and lookup for serving
+ */
+public interface ImageStorageService {
+
+    /**
+     * Validates and stores the upload and schedules its thumbnail.
+     *
+     * @return public URL of the stored image
+     */
+    String store(MultipartFile file);
+
+    StoredImage load(String filename);
+
+    record StoredImage(Path path, String contentType, long size, long lastModified) {
+    }
+}
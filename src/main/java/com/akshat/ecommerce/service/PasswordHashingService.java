@@ -0,0 +1,25 @@
+package com.akshat.ecommerce.service;
+
+import java.util.List;
+
+/**
+ * Password Hashing Service Interface
+ * Design Pattern: Bulkhead Pattern (isolated hashing capacity)
+ * Security: All BCrypt work of the application goes through here
+ */
+public interface PasswordHashingService {
+    String encode(String rawPassword);
+
+    /**
+     * Hashes a batch across all cores, for bulk imports. Not bounded by the
+     * request pool, callers must be admin-only.
+     */
+    List<String> encodeAll(List<String> rawPasswords);
+
+    boolean matches(String rawPassword, String encodedPassword);
+
+    /**
+     * @return true when the hash was made with a lower work factor than configured
+     */
+    boolean needsUpgrade(String encodedPassword);
+}
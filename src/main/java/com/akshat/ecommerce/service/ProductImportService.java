@@ -0,0 +1,19 @@
+package com.akshat.ecommerce.service;
+
+import com.akshat.ecommerce.dto.response.ImportResultDto;
+
+import java.io.InputStream;
+
+/**
+ * Product Import Service Interface
+ * Design Pattern: Strategy Pattern (one parser per input format)
+ * Business Logic: Bulk catalog loads from supplier feeds
+ */
+public interface ProductImportService {
+
+    enum Format {
+        CSV, NDJSON
+    }
+
+    ImportResultDto importProducts(InputStream input, Format format, Integer batchSize);
+}
@@ -2,10 +2,15 @@
 
 package com.akshat.ecommerce.service;
 
+import com.akshat.ecommerce.dto.request.ProductBulkUpdateRequestDto;
 import com.akshat.ecommerce.dto.request.ProductRequestDto;
+import com.akshat.ecommerce.dto.request.ProductSearchCriteria;
+import com.akshat.ecommerce.dto.response.ProductBulkUpdateResultDto;
+import com.akshat.ecommerce.dto.response.ProductCardDto;
 import com.akshat.ecommerce.dto.response.ProductResponseDto;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
@@ -19,15 +24,25 @@ public interface ProductService {
 
     ProductResponseDto getProductById(String id);
 
-    Page<ProductResponseDto> getAllProducts(Pageable pageable);
+    String getProductETag(String id);
 
-    Page<ProductResponseDto> searchProducts(String name, String categoryId, Pageable pageable);
+    /**
+     * @param withCount run the count query and return a full Page; otherwise a
+     *                  Slice that only knows whether a next page exists
+     */
+    Slice<ProductResponseDto> getAllProducts(Pageable pageable, boolean withCount);
+
+    Slice<ProductResponseDto> searchProducts(ProductSearchCriteria criteria, Pageable pageable, boolean withCount);
 
     List<ProductResponseDto> getFeaturedProducts();
 
-    List<ProductResponseDto> getProductsByCategory(String categoryId);
+    Slice<ProductCardDto> getProductsByCategory(String categoryId, Pageable pageable, boolean withCount);
 
     ProductResponseDto updateProduct(String id, ProductRequestDto productRequestDto);
 
+    ProductBulkUpdateResultDto bulkUpdateProducts(ProductBulkUpdateRequestDto bulkUpdateRequestDto);
+
+    ProductResponseDto addProductImage(String id, MultipartFile file);
+
     void deleteProduct(String id);
 }
\ No newline at end of file
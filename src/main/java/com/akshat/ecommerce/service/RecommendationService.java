@@ -0,0 +1,14 @@
+package com.akshat.ecommerce.service;
+
+import com.akshat.ecommerce.dto.response.ProductCardDto;
+
+import java.util.List;
+
+/**
+ * Recommendation Service Interface
+ * Design Pattern: Strategy Pattern (recommendation strategy behind an interface)
+ * Business Logic: "Frequently bought together" from order history
+ */
+public interface RecommendationService {
+    List<ProductCardDto> getFrequentlyBoughtTogether(String productId, int limit);
+}
@@ -0,0 +1,21 @@
+package com.akshat.ecommerce.service;
+
+import com.akshat.ecommerce.dto.request.ReviewRequestDto;
+import com.akshat.ecommerce.dto.response.RatingSummaryDto;
+import com.akshat.ecommerce.dto.response.ReviewPageDto;
+import com.akshat.ecommerce.dto.response.ReviewResponseDto;
+
+/**
+ * Review Service Interface
+ * Design Pattern: Strategy Pattern for review operations
+ * Business Logic: Product reviews with incrementally maintained rating aggregates
+ */
+public interface ReviewService {
+    ReviewResponseDto createReview(String productId, String userId, ReviewRequestDto reviewRequestDto);
+
+    ReviewPageDto getReviews(String productId, String cursor, int limit);
+
+    RatingSummaryDto getRatingSummary(String productId);
+
+    void deleteReview(String productId, String reviewId, String userId, boolean isAdmin);
+}
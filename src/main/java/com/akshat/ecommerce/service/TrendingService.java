@@ -0,0 +1,16 @@
+package com.akshat.ecommerce.service;
+
+import com.akshat.ecommerce.dto.response.ProductCardDto;
+
+import java.util.List;
+
+/**
+ * Trending Service Interface
+ * Design Pattern: Strategy Pattern (scoring strategy behind an interface)
+ * Analytics: Product popularity from buffered view counts
+ */
+public interface TrendingService {
+    void recordView(String productId);
+
+    List<ProductCardDto> getTrendingProducts(int limit);
+}
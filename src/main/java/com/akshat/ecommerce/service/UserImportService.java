@@ -0,0 +1,14 @@
+package com.akshat.ecommerce.service;
+
+import com.akshat.ecommerce.dto.response.ImportResultDto;
+
+import java.io.InputStream;
+
+/**
+ * User Import Service Interface
+ * Design Pattern: Service Layer Pattern
+ * Business Logic: Bulk user migrations from NDJSON, one registration per line
+ */
+public interface UserImportService {
+    ImportResultDto importUsers(InputStream input, Integer batchSize);
+}
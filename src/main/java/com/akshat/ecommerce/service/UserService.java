@@ -3,10 +3,9 @@ package com.akshat.ecommerce.service;
 import com.akshat.ecommerce.dto.request.UserLoginDto;
 import com.akshat.ecommerce.dto.request.UserRegistrationDto;
 import com.akshat.ecommerce.dto.response.AuthResponseDto;
+import com.akshat.ecommerce.dto.response.UserPageDto;
 import com.akshat.ecommerce.dto.response.UserResponseDto;
 
-import java.util.List;
-
 /**
  * User Service Interface
  * Design Pattern: Strategy Pattern for different authentication methods
@@ -17,9 +16,11 @@ public interface UserService {
 
     AuthResponseDto loginUser(UserLoginDto userLoginDto);
 
+    void logoutUser(String token);
+
     UserResponseDto getUserById(String id);
 
-    List<UserResponseDto> getAllUsers();
+    UserPageDto getUsers(String emailPrefix, String namePrefix, String cursor, int limit);
 
     UserResponseDto updateUser(String id, UserRegistrationDto userRegistrationDto);
 
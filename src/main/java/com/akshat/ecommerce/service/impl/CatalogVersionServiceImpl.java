@@ -0,0 +1,45 @@
+package com.akshat.ecommerce.service.impl;
+
+import com.akshat.ecommerce.event.CategoriesChangedEvent;
+import com.akshat.ecommerce.event.ProductsChangedEvent;
+import com.akshat.ecommerce.model.CatalogVersion;
+import com.akshat.ecommerce.repository.CatalogVersionRepository;
+import com.akshat.ecommerce.service.CatalogVersionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Catalog Version Service Implementation
+ * Design Pattern: Observer Pattern (bumps on write events), Version Stamp Pattern
+ * Consistency: Counters are bumped after the write completes, so a validator can
+ * only lag behind the content, never run ahead of it
+ */
+@Service
+@RequiredArgsConstructor
+public class CatalogVersionServiceImpl implements CatalogVersionService {
+
+    private final CatalogVersionRepository catalogVersionRepository;
+
+    @Override
+    public CatalogVersion getCurrentVersion() {
+        return catalogVersionRepository.findById(CatalogVersion.CATALOG_ID)
+                .orElseGet(() -> CatalogVersion.builder().id(CatalogVersion.CATALOG_ID).build());
+    }
+
+    @Override
+    public String getCatalogETag() {
+        CatalogVersion version = getCurrentVersion();
+        return "catalog-" + version.getProducts() + "-" + version.getCategories();
+    }
+
+    @EventListener
+    public void onProductsChanged(ProductsChangedEvent event) {
+        catalogVersionRepository.increment(CatalogVersion.CATALOG_ID, "products");
+    }
+
+    @EventListener
+    public void onCategoriesChanged(CategoriesChangedEvent event) {
+        catalogVersionRepository.increment(CatalogVersion.CATALOG_ID, "categories");
+    }
+}
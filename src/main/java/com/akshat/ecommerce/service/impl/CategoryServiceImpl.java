@@ -1,17 +1,33 @@
 package com.akshat.ecommerce.service.impl;
 
+import com.akshat.ecommerce.cache.CategoryTable;
 import com.akshat.ecommerce.dto.request.CategoryRequestDto;
 import com.akshat.ecommerce.dto.response.CategoryResponseDto;
+import com.akshat.ecommerce.dto.response.CategoryTreeNodeDto;
+import com.akshat.ecommerce.event.CategoriesChangedEvent;
 import com.akshat.ecommerce.exception.BadRequestException;
 import com.akshat.ecommerce.exception.ResourceNotFoundException;
 import com.akshat.ecommerce.model.Category;
+import com.akshat.ecommerce.model.CategoryStats;
 import com.akshat.ecommerce.repository.CategoryRepository;
+import com.akshat.ecommerce.repository.ProductRepository;
+import com.akshat.ecommerce.service.CatalogVersionService;
 import com.akshat.ecommerce.service.CategoryService;
+import com.akshat.ecommerce.service.CategoryStatsService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -19,13 +35,22 @@ import java.util.stream.Collectors;
  * Design Pattern: Service Layer Pattern, Facade Pattern
  * SOLID: Single Responsibility, Open/Closed, Dependency Inversion
  * DRY: Reusable mapping logic, consistent error handling
+ * Optimization: Reads are served from the in-memory category table; writes go to
+ * Mongo and publish CategoriesChangedEvent, which rebuilds the table. Counts are
+ * rolled up over subtrees in memory.
  */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryTable categoryTable;
+    private final CategoryStatsService categoryStatsService;
+    private final CatalogVersionService catalogVersionService;
+    private final ProductRepository productRepository;
     private final ModelMapper modelMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public CategoryResponseDto createCategory(CategoryRequestDto categoryRequestDto) {
@@ -35,21 +60,54 @@ public class CategoryServiceImpl implements CategoryService {
         }
 
         Category category = modelMapper.map(categoryRequestDto, Category.class);
+        category.setAncestors(resolveAncestors(null, categoryRequestDto.getParentId()));
+        category.setLastModified(LocalDateTime.now());
         Category savedCategory = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoriesChangedEvent(savedCategory.getId()));
         return modelMapper.map(savedCategory, CategoryResponseDto.class);
     }
 
     @Override
     public CategoryResponseDto getCategoryById(String id) {
-        Category category = categoryRepository.findById(id)
+        CategoryResponseDto category = categoryTable.findResponseById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + id));
-        return modelMapper.map(category, CategoryResponseDto.class);
+        return withCounts(category, rollUpCounts(categoryStatsService.getAllStats()).get(id));
+    }
+
+    @Override
+    public List<CategoryResponseDto> getBreadcrumbs(String id) {
+        return categoryTable.findBreadcrumbs(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + id));
+    }
+
+    @Override
+    public List<CategoryTreeNodeDto> getCategoryTree() {
+        return buildTree(null, rollUpCounts(categoryStatsService.getAllStats()));
+    }
+
+    @Override
+    public String getCategoryETag(String id) {
+        Category category = categoryTable.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + id));
+        long lastModified = category.getLastModified() != null
+                ? category.getLastModified().toInstant(ZoneOffset.UTC).toEpochMilli()
+                : 0L;
+        // Product counts change with product writes
+        return id + "-" + lastModified + "-" + catalogVersionService.getCurrentVersion().getProducts();
+    }
+
+    @Override
+    public String getCategoriesETag() {
+        // Stamp of the snapshot the list is served from, plus the product writes behind the counts
+        return "categories-" + categoryTable.getVersion() + "-"
+                + catalogVersionService.getCurrentVersion().getProducts();
     }
 
     @Override
     public List<CategoryResponseDto> getAllCategories() {
-        return categoryRepository.findAll().stream()
-                .map(category -> modelMapper.map(category, CategoryResponseDto.class))
+        Map<String, long[]> counts = rollUpCounts(categoryStatsService.getAllStats());
+        return categoryTable.findAllResponses().stream()
+                .map(category -> withCounts(category, counts.get(category.getId())))
                 .collect(Collectors.toList());
     }
 
@@ -64,8 +122,24 @@ public class CategoryServiceImpl implements CategoryService {
             throw new BadRequestException("Category with name '" + categoryRequestDto.getName() + "' already exists");
         }
 
+        String previousName = existingCategory.getName();
+        String previousParentId = existingCategory.getParentId();
+        List<String> ancestors = resolveAncestors(id, categoryRequestDto.getParentId());
         modelMapper.map(categoryRequestDto, existingCategory);
+        existingCategory.setParentId(categoryRequestDto.getParentId());
+        existingCategory.setAncestors(ancestors);
+        existingCategory.setLastModified(LocalDateTime.now());
         Category updatedCategory = categoryRepository.save(existingCategory);
+
+        // Keep the category summaries embedded in products consistent
+        if (!previousName.equals(updatedCategory.getName())) {
+            long renamed = productRepository.updateCategoryName(id, updatedCategory.getName());
+            log.info("Category {} renamed, updated {} product summaries", id, renamed);
+        }
+        if (!Objects.equals(previousParentId, updatedCategory.getParentId())) {
+            rewriteDescendantPaths(updatedCategory);
+        }
+        eventPublisher.publishEvent(new CategoriesChangedEvent(id));
         return modelMapper.map(updatedCategory, CategoryResponseDto.class);
     }
 
@@ -74,6 +148,131 @@ public class CategoryServiceImpl implements CategoryService {
         if (!categoryRepository.existsById(id)) {
             throw new ResourceNotFoundException("Category not found with id: " + id);
         }
+        if (categoryRepository.existsByParentId(id)) {
+            throw new BadRequestException("Category has subcategories, move or delete them first");
+        }
         categoryRepository.deleteById(id);
+        categoryStatsService.deleteStats(id);
+        eventPublisher.publishEvent(new CategoriesChangedEvent(id));
+    }
+
+    /**
+     * Helper method to build the materialized path of a category placed under
+     * parentId, rejecting moves below itself. The parent is read from Mongo, the
+     * category table may not have caught up with writes on other nodes yet
+     */
+    private List<String> resolveAncestors(String categoryId, String parentId) {
+        if (parentId == null) {
+            return List.of();
+        }
+        Category parent = categoryRepository.findById(parentId)
+                .orElseThrow(() -> new BadRequestException("Parent category not found with id: " + parentId));
+        List<String> parentAncestors = parent.getAncestors() != null ? parent.getAncestors() : List.of();
+        if (parentId.equals(categoryId) || parentAncestors.contains(categoryId)) {
+            throw new BadRequestException("A category cannot be moved under itself or its subcategories");
+        }
+        List<String> ancestors = new ArrayList<>(parentAncestors);
+        ancestors.add(parentId);
+        return ancestors;
+    }
+
+    /**
+     * Helper method to re-root the paths of all descendants after a move. The
+     * subtree is walked level by level through parentId in Mongo and every path is
+     * rebuilt from its parent's, so neither a lagging category table nor a stale
+     * stored path can leave a descendant with a wrong path
+     */
+    private void rewriteDescendantPaths(Category moved) {
+        Map<String, List<String>> paths = new HashMap<>();
+        List<String> movedPath = new ArrayList<>(moved.getAncestors());
+        movedPath.add(moved.getId());
+        paths.put(moved.getId(), movedPath);
+
+        List<Category> descendants = new ArrayList<>();
+        List<String> level = List.of(moved.getId());
+        LocalDateTime now = LocalDateTime.now();
+        while (!level.isEmpty()) {
+            List<String> nextLevel = new ArrayList<>();
+            for (Category child : categoryRepository.findByParentIdIn(level)) {
+                if (paths.containsKey(child.getId())) {
+                    continue; // guards against a cyclic parentId written outside the service
+                }
+                List<String> ancestors = paths.get(child.getParentId());
+                List<String> path = new ArrayList<>(ancestors);
+                path.add(child.getId());
+                paths.put(child.getId(), path);
+
+                child.setAncestors(ancestors);
+                child.setLastModified(now);
+                descendants.add(child);
+                nextLevel.add(child.getId());
+            }
+            level = nextLevel;
+        }
+        if (descendants.isEmpty()) {
+            return;
+        }
+        categoryRepository.saveAll(descendants);
+        log.info("Category {} moved, updated {} descendant paths", moved.getId(), descendants.size());
+    }
+
+    /**
+     * Helper method to add the counts of every category to itself and its
+     * ancestors, giving subtree totals. Served from the table snapshot alone;
+     * stats of categories it does not know, such as deleted ones, are skipped.
+     */
+    private Map<String, long[]> rollUpCounts(Map<String, CategoryStats> stats) {
+        Map<String, long[]> counts = new HashMap<>();
+        stats.forEach((categoryId, categoryStats) -> {
+            Optional<Category> category = categoryTable.findLoadedById(categoryId);
+            if (category.isEmpty()) {
+                return;
+            }
+            List<String> targets = new ArrayList<>();
+            targets.add(categoryId);
+            if (category.get().getAncestors() != null) {
+                targets.addAll(category.get().getAncestors());
+            }
+            for (String target : targets) {
+                long[] total = counts.computeIfAbsent(target, id -> new long[2]);
+                total[0] += categoryStats.getProductCount();
+                total[1] += categoryStats.getInStockCount();
+            }
+        });
+        return counts;
+    }
+
+    private List<CategoryTreeNodeDto> buildTree(String parentId, Map<String, long[]> counts) {
+        List<CategoryTreeNodeDto> nodes = new ArrayList<>();
+        for (String childId : categoryTable.findChildIds(parentId)) {
+            categoryTable.findResponseById(childId).ifPresent(category -> {
+                long[] total = counts.getOrDefault(childId, new long[2]);
+                nodes.add(CategoryTreeNodeDto.builder()
+                        .id(category.getId())
+                        .name(category.getName())
+                        .icon(category.getIcon())
+                        .color(category.getColor())
+                        .productCount(total[0])
+                        .inStockCount(total[1])
+                        .children(buildTree(childId, counts))
+                        .build());
+            });
+        }
+        return nodes;
+    }
+
+    /**
+     * Helper method to attach subtree counts to a copy, the table's DTOs are shared
+     */
+    private CategoryResponseDto withCounts(CategoryResponseDto category, long[] counts) {
+        return CategoryResponseDto.builder()
+                .id(category.getId())
+                .name(category.getName())
+                .icon(category.getIcon())
+                .color(category.getColor())
+                .parentId(category.getParentId())
+                .productCount(counts != null ? counts[0] : 0L)
+                .inStockCount(counts != null ? counts[1] : 0L)
+                .build();
     }
 }
@@ -0,0 +1,154 @@
+package com.akshat.ecommerce.service.impl;
+
+import com.akshat.ecommerce.cache.CategoryTable;
+import com.akshat.ecommerce.model.CategoryStats;
+import com.akshat.ecommerce.repository.CategoryStatsRepository;
+import com.akshat.ecommerce.repository.ProductRepository;
+import com.akshat.ecommerce.service.CatalogVersionService;
+import com.akshat.ecommerce.service.CategoryStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Category Stats Service Implementation
+ * Design Pattern: Scheduled Job Pattern (drift repair)
+ * Optimization: Writes adjust the sidecar counts with $inc; a periodic rebuild
+ * recomputes them in one aggregation plus one bulk write, repairing drift from
+ * concurrent writes or paths that bypass the service. Reads are served from an
+ * in-memory copy, dropped on local writes and reloaded when polling the products
+ * version shows writes made on other nodes
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryStatsServiceImpl implements CategoryStatsService {
+
+    private final CategoryStatsRepository categoryStatsRepository;
+    private final ProductRepository productRepository;
+    private final CatalogVersionService catalogVersionService;
+    private final CategoryTable categoryTable;
+
+    private volatile Snapshot snapshot;
+
+    @Override
+    public void recordMove(String fromCategoryId, Integer fromStock, String toCategoryId, Integer toStock) {
+        Map<String, long[]> deltas = new HashMap<>();
+        if (fromCategoryId != null) {
+            long[] delta = deltas.computeIfAbsent(fromCategoryId, id -> new long[2]);
+            delta[0]--;
+            delta[1] -= isInStock(fromStock) ? 1 : 0;
+        }
+        if (toCategoryId != null) {
+            long[] delta = deltas.computeIfAbsent(toCategoryId, id -> new long[2]);
+            delta[0]++;
+            delta[1] += isInStock(toStock) ? 1 : 0;
+        }
+        deltas.forEach((categoryId, delta) -> {
+            if (delta[0] != 0 || delta[1] != 0) {
+                categoryStatsRepository.increment(categoryId, delta[0], delta[1]);
+                snapshot = null;
+            }
+        });
+    }
+
+    @Override
+    public void recountForProducts(Collection<String> productIds) {
+        List<String> categoryIds = productRepository.findCategoryIds(productIds);
+        if (categoryIds.isEmpty()) {
+            return;
+        }
+        Map<String, CategoryStats> counts = productRepository.countByCategory(categoryIds).stream()
+                .filter(this::isKnownCategory)
+                .collect(Collectors.toMap(CategoryStats::getId, Function.identity()));
+        for (String categoryId : categoryIds) {
+            if (categoryTable.findLoadedById(categoryId).isPresent()) {
+                counts.putIfAbsent(categoryId, CategoryStats.builder().id(categoryId).build());
+            }
+        }
+        if (counts.isEmpty()) {
+            return;
+        }
+        categoryStatsRepository.replaceCounts(counts.values(), false);
+        snapshot = null;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "#{@appConfig.categoryStats.rebuildIntervalMs}")
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        // Products left in a deleted category must not bring its stats row back
+        List<CategoryStats> counts = productRepository.countByCategory(null).stream()
+                .filter(this::isKnownCategory)
+                .toList();
+        categoryStatsRepository.replaceCounts(counts, true);
+        snapshot = null;
+        log.info("Category stats rebuilt for {} categories in {}ms", counts.size(),
+                System.currentTimeMillis() - start);
+    }
+
+    @Override
+    public void deleteStats(String categoryId) {
+        categoryStatsRepository.deleteById(categoryId);
+        snapshot = null;
+    }
+
+    @Override
+    public Optional<CategoryStats> getStats(String categoryId) {
+        return Optional.ofNullable(getAllStats().get(categoryId));
+    }
+
+    @Override
+    public Map<String, CategoryStats> getAllStats() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            current = load();
+        }
+        return current.stats();
+    }
+
+    /**
+     * Every product write bumps the products version, so an unchanged version means
+     * the counts in memory are still current.
+     */
+    @Scheduled(fixedDelayString = "#{@appConfig.categoryCache.pollIntervalMs}")
+    public void pollVersion() {
+        Snapshot current = snapshot;
+        if (current != null && catalogVersionService.getCurrentVersion().getProducts() != current.version()) {
+            snapshot = null;
+        }
+    }
+
+    /**
+     * The version is read before the counts, so a concurrent write can only leave
+     * the stamp behind the data and trigger one extra reload.
+     */
+    private Snapshot load() {
+        long version = catalogVersionService.getCurrentVersion().getProducts();
+        Map<String, CategoryStats> stats = categoryStatsRepository.findAll().stream()
+                .collect(Collectors.toUnmodifiableMap(CategoryStats::getId, Function.identity()));
+        Snapshot loaded = new Snapshot(version, stats);
+        snapshot = loaded;
+        return loaded;
+    }
+
+    private boolean isKnownCategory(CategoryStats stats) {
+        return stats.getId() != null && categoryTable.findLoadedById(stats.getId()).isPresent();
+    }
+
+    private static boolean isInStock(Integer stock) {
+        return stock != null && stock > 0;
+    }
+
+    private record Snapshot(long version, Map<String, CategoryStats> stats) {
+    }
+}
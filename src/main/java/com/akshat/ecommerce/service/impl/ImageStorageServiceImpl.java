@@ -0,0 +1,254 @@
+package com.akshat.ecommerce.service.impl;
+
+import com.akshat.ecommerce.config.AppConfig;
+import com.akshat.ecommerce.exception.BadRequestException;
+import com.akshat.ecommerce.exception.ResourceNotFoundException;
+import com.akshat.ecommerce.service.ImageStorageService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOException;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Image Storage Service Implementation
+ * Design Pattern: Producer-Consumer Pattern (thumbnail worker pool)
+ * Optimization: Uploads are moved from the multipart spool file to the upload
+ * directory without passing through the heap; thumbnails are produced off the
+ * request thread on a bounded pool
+ * Security: Dimensions are read from the image header before anything is decoded,
+ * so a small file declaring a huge canvas cannot exhaust the heap
+ */
+@Service
+@Slf4j
+public class ImageStorageServiceImpl implements ImageStorageService {
+
+    // Only names generated by store() are ever served
+    private static final Pattern FILENAME_PATTERN = Pattern.compile(
+            "[0-9a-f]{8}(-[0-9a-f]{4}){3}-[0-9a-f]{12}(-thumb)?\\.(jpg|png|gif)");
+    private static final String THUMBNAIL_SUFFIX = "-thumb";
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/jpeg", "jpg",
+            "image/png", "png",
+            "image/gif", "gif");
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "jpg", "image/jpeg",
+            "png", "image/png",
+            "gif", "image/gif");
+
+    private final AppConfig.Upload settings;
+    private final Set<String> allowedTypes;
+    private final Path uploadDir;
+    private final String imagesUrl;
+    private final ThreadPoolExecutor thumbnailExecutor;
+
+    public ImageStorageServiceImpl(AppConfig appConfig, @Value("${api.url}") String apiUrl) {
+        this.settings = appConfig.getUpload();
+        this.allowedTypes = Arrays.stream(settings.getAllowedTypes()).collect(Collectors.toSet());
+        this.uploadDir = Paths.get(settings.getPath()).toAbsolutePath().normalize();
+        this.imagesUrl = apiUrl + "/images/";
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.thumbnailExecutor = new ThreadPoolExecutor(settings.getThumbnailThreads(),
+                settings.getThumbnailThreads(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(settings.getThumbnailQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "thumbnail-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Override
+    public String store(MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new BadRequestException("Uploaded file is empty");
+        }
+        if (file.getSize() > settings.getMaxFileSize()) {
+            throw new BadRequestException("File size must not exceed " + settings.getMaxFileSize() + " bytes");
+        }
+
+        // Trust the file signature, not the client supplied content type
+        String contentType = detectContentType(file);
+        if (contentType == null || !allowedTypes.contains(contentType)) {
+            throw new BadRequestException("Unsupported image type, allowed types: " + allowedTypes);
+        }
+        checkDimensions(file);
+
+        String baseName = UUID.randomUUID().toString();
+        String extension = EXTENSIONS.get(contentType);
+        Path target = uploadDir.resolve(baseName + "." + extension);
+        try {
+            Files.createDirectories(uploadDir);
+            file.transferTo(target);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store uploaded image", e);
+        }
+
+        scheduleThumbnail(target, uploadDir.resolve(baseName + THUMBNAIL_SUFFIX + "." + extension), extension);
+        return imagesUrl + target.getFileName();
+    }
+
+    @Override
+    public StoredImage load(String filename) {
+        if (!FILENAME_PATTERN.matcher(filename).matches()) {
+            throw new ResourceNotFoundException("Image not found: " + filename);
+        }
+        Path path = uploadDir.resolve(filename);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            String extension = filename.substring(filename.lastIndexOf('.') + 1);
+            return new StoredImage(path, CONTENT_TYPES.get(extension), attributes.size(),
+                    attributes.lastModifiedTime().toMillis());
+        } catch (IOException e) {
+            throw new ResourceNotFoundException("Image not found: " + filename);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        thumbnailExecutor.shutdown();
+    }
+
+    /**
+     * Thumbnails are best effort: when the pool is saturated the upload still
+     * succeeds and the thumbnail is simply not generated.
+     */
+    private void scheduleThumbnail(Path source, Path target, String extension) {
+        try {
+            thumbnailExecutor.execute(() -> writeThumbnail(source, target, extension));
+        } catch (RejectedExecutionException e) {
+            log.warn("Thumbnail queue full, skipping thumbnail for {}", source.getFileName());
+        }
+    }
+
+    private void writeThumbnail(Path source, Path target, String extension) {
+        try {
+            long pixels = countPixels(ImageIO.createImageInputStream(source.toFile()));
+            if (pixels < 0 || pixels > settings.getMaxImagePixels()) {
+                log.warn("Skipping thumbnail for {}, dimensions unreadable or too large", source.getFileName());
+                return;
+            }
+            BufferedImage image = ImageIO.read(source.toFile());
+            if (image == null) {
+                log.warn("Could not decode {} for thumbnail", source.getFileName());
+                return;
+            }
+
+            int width = Math.min(settings.getThumbnailWidth(), image.getWidth());
+            int height = Math.max(1, Math.round((float) image.getHeight() * width / image.getWidth()));
+            // JPEG has no alpha channel
+            int type = "jpg".equals(extension) ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+            BufferedImage thumbnail = new BufferedImage(width, height, type);
+            Graphics2D graphics = thumbnail.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.drawImage(image, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+
+            // Written under a temporary name so readers never see a partial file
+            Path temp = Files.createTempFile(uploadDir, "thumb", ".tmp");
+            try {
+                ImageIO.write(thumbnail, "jpg".equals(extension) ? "jpeg" : extension, temp.toFile());
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to create thumbnail for {}", source.getFileName(), e);
+        }
+    }
+
+    private void checkDimensions(MultipartFile file) {
+        long pixels;
+        try (InputStream input = file.getInputStream()) {
+            pixels = countPixels(ImageIO.createImageInputStream(input));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read uploaded image", e);
+        }
+        if (pixels < 0) {
+            throw new BadRequestException("Could not read image dimensions");
+        }
+        if (pixels > settings.getMaxImagePixels()) {
+            throw new BadRequestException("Image must not exceed " + settings.getMaxImagePixels() + " pixels");
+        }
+    }
+
+    /**
+     * Reads width and height from the header only, without decoding pixel data.
+     *
+     * @return width x height, or -1 when no reader understands the stream or its header
+     */
+    private static long countPixels(ImageInputStream stream) throws IOException {
+        if (stream == null) {
+            return -1;
+        }
+        try (stream) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+            if (!readers.hasNext()) {
+                return -1;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, true);
+                return (long) reader.getWidth(0) * reader.getHeight(0);
+            } catch (IIOException e) {
+                return -1; // malformed header
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private String detectContentType(MultipartFile file) {
+        byte[] header = new byte[8];
+        int read;
+        try (InputStream input = file.getInputStream()) {
+            read = input.readNBytes(header, 0, header.length);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read uploaded image", e);
+        }
+
+        if (read >= 3 && (header[0] & 0xFF) == 0xFF && (header[1] & 0xFF) == 0xD8 && (header[2] & 0xFF) == 0xFF) {
+            return "image/jpeg";
+        }
+        if (read >= 8 && (header[0] & 0xFF) == 0x89 && header[1] == 'P' && header[2] == 'N' && header[3] == 'G'
+                && header[4] == '\r' && header[5] == '\n' && header[6] == 0x1A && header[7] == '\n') {
+            return "image/png";
+        }
+        if (read >= 4 && header[0] == 'G' && header[1] == 'I' && header[2] == 'F' && header[3] == '8') {
+            return "image/gif";
+        }
+        return null;
+    }
+}
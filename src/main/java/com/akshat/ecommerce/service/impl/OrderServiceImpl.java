@@ -5,16 +5,21 @@ package com.akshat.ecommerce.service.impl;
 import com.akshat.ecommerce.dto.request.OrderRequestDto;
 import com.akshat.ecommerce.dto.response.OrderResponseDto;
 import com.akshat.ecommerce.dto.response.OrderStatisticsDto;
+import com.akshat.ecommerce.event.OrderCreatedEvent;
+import com.akshat.ecommerce.event.ProductsChangedEvent;
 import com.akshat.ecommerce.exception.BadRequestException;
 import com.akshat.ecommerce.exception.ResourceNotFoundException;
 import com.akshat.ecommerce.model.*;
 import com.akshat.ecommerce.repository.OrderRepository;
 import com.akshat.ecommerce.repository.ProductRepository;
 import com.akshat.ecommerce.repository.UserRepository;
+import com.akshat.ecommerce.service.CategoryStatsService;
 import com.akshat.ecommerce.service.OrderService;
+import com.akshat.ecommerce.util.ProductMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -42,6 +47,9 @@ public class OrderServiceImpl implements OrderService {
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
     private final ModelMapper modelMapper;
+    private final ProductMapper productMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CategoryStatsService categoryStatsService;
 
     @Override
     public OrderResponseDto createOrder(OrderRequestDto orderRequestDto) {
@@ -53,47 +61,54 @@ public class OrderServiceImpl implements OrderService {
         List<OrderItem> orderItems = new ArrayList<>();
         BigDecimal totalPrice = BigDecimal.ZERO;
 
-        for (OrderRequestDto.OrderItemRequestDto itemDto : orderRequestDto.getOrderItems()) {
-            Product product = productRepository.findById(itemDto.getProductId())
-                    .orElseThrow(() -> new BadRequestException("Product not found with id: " + itemDto.getProductId()));
-
-            // Check stock availability
-            if (product.getCountInStock() < itemDto.getQuantity()) {
-                throw new BadRequestException("Insufficient stock for product: " + product.getName());
+        Order savedOrder;
+        try {
+            for (OrderRequestDto.OrderItemRequestDto itemDto : orderRequestDto.getOrderItems()) {
+                // Reserve stock with a conditional $inc, so concurrent orders cannot oversell
+                Product product = productRepository.adjustStock(itemDto.getProductId(), -itemDto.getQuantity(),
+                                LocalDateTime.now())
+                        .orElseThrow(() -> stockUnavailable(itemDto.getProductId()));
+                recordStockChange(product, -itemDto.getQuantity());
+                product.setCountInStock(product.getCountInStock() - itemDto.getQuantity());
+
+                // Create order item
+                OrderItem orderItem = OrderItem.builder()
+                        .product(product)
+                        .quantity(itemDto.getQuantity())
+                        .build();
+                orderItems.add(orderItem);
+
+                // Calculate item total
+                BigDecimal itemTotal = product.getPrice().multiply(BigDecimal.valueOf(itemDto.getQuantity()));
+                totalPrice = totalPrice.add(itemTotal);
             }
 
-            // Create order item
-            OrderItem orderItem = OrderItem.builder()
-                    .product(product)
-                    .quantity(itemDto.getQuantity())
+            // Create order
+            Order order = Order.builder()
+                    .orderItems(orderItems)
+                    .shippingAddress1(orderRequestDto.getShippingAddress1())
+                    .shippingAddress2(orderRequestDto.getShippingAddress2())
+                    .city(orderRequestDto.getCity())
+                    .zip(orderRequestDto.getZip())
+                    .country(orderRequestDto.getCountry())
+                    .phone(orderRequestDto.getPhone())
+                    .status("Pending")
+                    .totalPrice(totalPrice)
+                    .user(user)
+                    .dateOrdered(LocalDateTime.now())
                     .build();
-            orderItems.add(orderItem);
-
-            // Calculate item total
-            BigDecimal itemTotal = product.getPrice().multiply(BigDecimal.valueOf(itemDto.getQuantity()));
-            totalPrice = totalPrice.add(itemTotal);
 
-            // Update product stock
-            product.setCountInStock(product.getCountInStock() - itemDto.getQuantity());
-            productRepository.save(product);
+            savedOrder = orderRepository.save(order);
+        } catch (RuntimeException e) {
+            // No multi-document transaction backs the reservations, hand back what was taken
+            releaseStock(orderItems);
+            throw e;
         }
-
-        // Create order
-        Order order = Order.builder()
-                .orderItems(orderItems)
-                .shippingAddress1(orderRequestDto.getShippingAddress1())
-                .shippingAddress2(orderRequestDto.getShippingAddress2())
-                .city(orderRequestDto.getCity())
-                .zip(orderRequestDto.getZip())
-                .country(orderRequestDto.getCountry())
-                .phone(orderRequestDto.getPhone())
-                .status("Pending")
-                .totalPrice(totalPrice)
-                .user(user)
-                .dateOrdered(LocalDateTime.now())
-                .build();
-
-        Order savedOrder = orderRepository.save(order);
+        List<String> productIds = orderItems.stream()
+                .map(orderItem -> orderItem.getProduct().getId())
+                .collect(Collectors.toList());
+        eventPublisher.publishEvent(new ProductsChangedEvent(productIds));
+        eventPublisher.publishEvent(new OrderCreatedEvent(savedOrder.getId(), productIds));
         log.info("Order created with id: {} for user: {}", savedOrder.getId(), user.getEmail());
 
         return mapToOrderResponseDto(savedOrder);
@@ -200,11 +215,46 @@ public class OrderServiceImpl implements OrderService {
      * Design Pattern: Template Method Pattern
      */
     private void restoreProductStock(Order order) {
-        for (OrderItem orderItem : order.getOrderItems()) {
-            Product product = orderItem.getProduct();
-            product.setCountInStock(product.getCountInStock() + orderItem.getQuantity());
-            productRepository.save(product);
+        eventPublisher.publishEvent(new ProductsChangedEvent(releaseStock(order.getOrderItems())));
+    }
+
+    /**
+     * Helper method to add the quantities of the items back with one $inc each;
+     * products deleted in the meantime are skipped
+     */
+    private List<String> releaseStock(List<OrderItem> orderItems) {
+        List<String> productIds = new ArrayList<>();
+        for (OrderItem orderItem : orderItems) {
+            if (orderItem.getProduct() == null) {
+                continue;
+            }
+            String productId = orderItem.getProduct().getId();
+            productRepository.adjustStock(productId, orderItem.getQuantity(), LocalDateTime.now())
+                    .ifPresent(previous -> recordStockChange(previous, orderItem.getQuantity()));
+            productIds.add(productId);
         }
+        return productIds;
+    }
+
+    /**
+     * Helper method to tell a missing product from one that ran out, only called
+     * once a reservation failed
+     */
+    private BadRequestException stockUnavailable(String productId) {
+        return productRepository.findById(productId)
+                .map(product -> new BadRequestException("Insufficient stock for product: " + product.getName()))
+                .orElseGet(() -> new BadRequestException("Product not found with id: " + productId));
+    }
+
+    /**
+     * Helper method to keep category in-stock counts current from the product as it
+     * was before the stock delta; only writes when the product crossed zero
+     */
+    private void recordStockChange(Product previous, int delta) {
+        String categoryId = previous.getCategory() != null ? previous.getCategory().getId() : null;
+        Integer previousStock = previous.getCountInStock();
+        categoryStatsService.recordMove(categoryId, previousStock, categoryId,
+                previousStock != null ? previousStock + delta : delta);
     }
 
     /**
@@ -215,8 +265,7 @@ public class OrderServiceImpl implements OrderService {
         List<OrderResponseDto.OrderItemResponseDto> orderItemDtos = order.getOrderItems().stream()
                 .map(orderItem -> OrderResponseDto.OrderItemResponseDto.builder()
                         .quantity(orderItem.getQuantity())
-                        .product(modelMapper.map(orderItem.getProduct(),
-                                com.akshat.ecommerce.dto.response.ProductResponseDto.class))
+                        .product(productMapper.toResponseDto(orderItem.getProduct()))
                         .build())
                 .collect(Collectors.toList());
 
@@ -0,0 +1,126 @@
+package com.akshat.ecommerce.service.impl;
+
+import com.akshat.ecommerce.config.AppConfig;
+import com.akshat.ecommerce.exception.ServiceUnavailableException;
+import com.akshat.ecommerce.service.PasswordHashingService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Password Hashing Service Implementation
+ * Design Pattern: Bulkhead Pattern
+ * Optimization: BCrypt is deliberately CPU-heavy. It runs on a small dedicated
+ * pool with a bounded queue, so a login burst can occupy at most that many cores
+ * while catalog traffic keeps its Tomcat workers. When the queue is full, or a
+ * queued task waits longer than the timeout, the request fails fast with 503
+ * instead of piling up.
+ */
+@Service
+@Slf4j
+public class PasswordHashingServiceImpl implements PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final AppConfig.Auth settings;
+    private final ThreadPoolExecutor hashingExecutor;
+    // Separate from the common pool so imports never stall parallel streams elsewhere
+    private final ForkJoinPool bulkHashingPool;
+
+    public PasswordHashingServiceImpl(PasswordEncoder passwordEncoder, AppConfig appConfig) {
+        this.passwordEncoder = passwordEncoder;
+        this.settings = appConfig.getAuth();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.hashingExecutor = new ThreadPoolExecutor(settings.getHashingThreads(),
+                settings.getHashingThreads(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(settings.getHashingQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.bulkHashingPool = new ForkJoinPool(bulkHashingParallelism(settings));
+    }
+
+    @Override
+    public String encode(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    @Override
+    public List<String> encodeAll(List<String> rawPasswords) {
+        return bulkHashingPool.submit(() -> rawPasswords.parallelStream()
+                .map(passwordEncoder::encode)
+                .toList())
+                .join();
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean needsUpgrade(String encodedPassword) {
+        // Reads the cost from the hash prefix, no hashing involved
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingExecutor.shutdownNow();
+        bulkHashingPool.shutdownNow();
+    }
+
+    /**
+     * An import sized to all cores would starve the login pool, so by default it
+     * gets the cores that pool does not use
+     */
+    private static int bulkHashingParallelism(AppConfig.Auth settings) {
+        if (settings.getBulkHashingThreads() > 0) {
+            return settings.getBulkHashingThreads();
+        }
+        return Math.max(1, Runtime.getRuntime().availableProcessors() - settings.getHashingThreads());
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> result;
+        try {
+            result = hashingExecutor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("Password hashing queue full, rejecting request");
+            throw new ServiceUnavailableException("Too many authentication requests, please retry shortly");
+        }
+
+        try {
+            return result.get(settings.getHashingTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            log.warn("Password hashing timed out after {}ms", settings.getHashingTimeoutMs());
+            throw new ServiceUnavailableException("Too many authentication requests, please retry shortly");
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Password hashing interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
@@ -1,22 +1,52 @@
 package com.akshat.ecommerce.service.impl;
 
+import com.akshat.ecommerce.cache.CatalogIndex;
+import com.akshat.ecommerce.cache.CategoryTable;
+import com.akshat.ecommerce.cache.SearchResultCache;
+import com.akshat.ecommerce.dto.request.ProductBulkUpdateRequestDto;
 import com.akshat.ecommerce.dto.request.ProductRequestDto;
+import com.akshat.ecommerce.dto.request.ProductSearchCriteria;
+import com.akshat.ecommerce.dto.response.ProductBulkUpdateResultDto;
+import com.akshat.ecommerce.dto.response.ProductCardDto;
 import com.akshat.ecommerce.dto.response.ProductResponseDto;
+import com.akshat.ecommerce.event.ProductsChangedEvent;
 import com.akshat.ecommerce.exception.BadRequestException;
 import com.akshat.ecommerce.exception.ResourceNotFoundException;
-import com.akshat.ecommerce.model.Category;
+import com.akshat.ecommerce.model.CategorySummary;
 import com.akshat.ecommerce.model.Product;
-import com.akshat.ecommerce.repository.CategoryRepository;
 import com.akshat.ecommerce.repository.ProductRepository;
+import com.akshat.ecommerce.repository.ProductRepositoryCustom;
+import com.akshat.ecommerce.service.CatalogVersionService;
+import com.akshat.ecommerce.service.CategoryStatsService;
+import com.akshat.ecommerce.service.ImageStorageService;
 import com.akshat.ecommerce.service.ProductService;
+import com.akshat.ecommerce.util.ProductMapper;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
 import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 /**
@@ -29,92 +59,310 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ProductServiceImpl implements ProductService {
 
+    // Sort keys backed by the compound indexes on Product
+    private static final Set<String> SEARCH_SORT_PROPERTIES = Set.of("price", "rating", "dateCreated");
+
     private final ProductRepository productRepository;
-    private final CategoryRepository categoryRepository;
+    private final CategoryTable categoryTable;
     private final ModelMapper modelMapper;
+    private final ProductMapper productMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogVersionService catalogVersionService;
+    private final ImageStorageService imageStorageService;
+    // Present only with app.catalog-index.enabled=true
+    private final Optional<CatalogIndex> catalogIndex;
+    private final SearchResultCache searchResultCache;
+    private final CategoryStatsService categoryStatsService;
 
     @Override
     public ProductResponseDto createProduct(ProductRequestDto productRequestDto) {
         // Validate category exists
-        Category category = categoryRepository.findById(productRequestDto.getCategoryId())
-                .orElseThrow(() -> new BadRequestException(
-                        "Category not found with id: " + productRequestDto.getCategoryId()));
+        CategorySummary category = resolveCategory(productRequestDto.getCategoryId());
 
         Product product = modelMapper.map(productRequestDto, Product.class);
         product.setCategory(category);
         product.setDateCreated(LocalDateTime.now());
+        product.setLastModified(product.getDateCreated());
 
-        Product savedProduct = productRepository.save(product);
-        return modelMapper.map(savedProduct, ProductResponseDto.class);
+        Product savedProduct = productRepository.insert(product);
+        categoryStatsService.recordMove(null, null, category.getId(), savedProduct.getCountInStock());
+        eventPublisher.publishEvent(ProductsChangedEvent.of(savedProduct.getId()));
+        return productMapper.toResponseDto(savedProduct);
     }
 
     @Override
     public ProductResponseDto getProductById(String id) {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Product not found with id: " + id));
-        return modelMapper.map(product, ProductResponseDto.class);
+        return productMapper.toResponseDto(product);
     }
 
     @Override
-    public Page<ProductResponseDto> getAllProducts(Pageable pageable) {
-        Page<Product> products = productRepository.findAll(pageable);
-        return products.map(product -> modelMapper.map(product, ProductResponseDto.class));
+    public String getProductETag(String id) {
+        Product product = productRepository.findLastModifiedById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Product not found with id: " + id));
+        long lastModified = product.getLastModified() != null
+                ? product.getLastModified().toInstant(ZoneOffset.UTC).toEpochMilli()
+                : 0L;
+        // Product payloads embed their category, so category writes must change the tag too
+        return id + "-" + lastModified + "-" + catalogVersionService.getCurrentVersion().getCategories();
     }
 
     @Override
-    public Page<ProductResponseDto> searchProducts(String name, String categoryId, Pageable pageable) {
-        Page<Product> products;
-
-        if (name != null && categoryId != null) {
-            products = productRepository.findByNameContainingIgnoreCaseAndCategoryId(name, categoryId, pageable);
-        } else if (name != null) {
-            products = productRepository.findByNameContainingIgnoreCase(name, pageable);
-        } else if (categoryId != null) {
-            products = productRepository.findByCategoryId(categoryId, pageable);
+    public Slice<ProductResponseDto> getAllProducts(Pageable pageable, boolean withCount) {
+        Optional<Page<Product>> indexed = catalogIndex.flatMap(index -> index.findAll(pageable));
+        Slice<Product> products;
+        if (withCount) {
+            products = indexed.orElseGet(() -> productRepository.findAll(pageable));
         } else {
-            products = productRepository.findAll(pageable);
+            products = indexed.map(this::toSlice).orElseGet(() -> productRepository.findAllBy(pageable));
+        }
+        return products.map(productMapper::toResponseDto);
+    }
+
+    @Override
+    public Slice<ProductResponseDto> searchProducts(ProductSearchCriteria criteria, Pageable pageable,
+            boolean withCount) {
+        if (criteria.getMinPrice() != null && criteria.getMaxPrice() != null
+                && criteria.getMinPrice().compareTo(criteria.getMaxPrice()) > 0) {
+            throw new BadRequestException("minPrice must not be greater than maxPrice");
+        }
+        for (Sort.Order order : pageable.getSort()) {
+            if (!SEARCH_SORT_PROPERTIES.contains(order.getProperty())) {
+                throw new BadRequestException("Unsupported sort property: " + order.getProperty());
+            }
         }
 
-        return products.map(product -> modelMapper.map(product, ProductResponseDto.class));
+        ProductSearchCriteria normalized = normalize(criteria);
+        return searchResultCache.get(normalized, pageable, withCount, () -> {
+            Optional<Page<Product>> indexed = catalogIndex.flatMap(index -> index.search(normalized, pageable));
+            Slice<Product> products;
+            if (withCount) {
+                products = indexed.orElseGet(() -> productRepository.search(normalized, pageable));
+            } else {
+                products = indexed.map(this::toSlice)
+                        .orElseGet(() -> productRepository.searchSlice(normalized, pageable));
+            }
+            return products.map(productMapper::toResponseDto);
+        });
     }
 
     @Override
     public List<ProductResponseDto> getFeaturedProducts() {
         return productRepository.findByIsFeaturedTrue().stream()
-                .map(product -> modelMapper.map(product, ProductResponseDto.class))
+                .map(productMapper::toResponseDto)
                 .collect(Collectors.toList());
     }
 
     @Override
-    public List<ProductResponseDto> getProductsByCategory(String categoryId) {
-        return productRepository.findByCategoryId(categoryId).stream()
-                .map(product -> modelMapper.map(product, ProductResponseDto.class))
-                .collect(Collectors.toList());
+    public Slice<ProductCardDto> getProductsByCategory(String categoryId, Pageable pageable, boolean withCount) {
+        List<String> categoryIds = categoryTable.findSubtreeIds(categoryId);
+        Optional<Page<Product>> indexed = catalogIndex.flatMap(index -> index.findByCategoryIds(categoryIds, pageable));
+        Slice<Product> products;
+        if (withCount) {
+            products = indexed.orElseGet(() -> productRepository.findCardsByCategoryIdIn(categoryIds, pageable));
+        } else {
+            products = indexed.map(this::toSlice)
+                    .orElseGet(() -> productRepository.findCardSliceByCategoryIdIn(categoryIds, pageable));
+        }
+        return products.map(product -> modelMapper.map(product, ProductCardDto.class));
     }
 
     @Override
     public ProductResponseDto updateProduct(String id, ProductRequestDto productRequestDto) {
-        Product existingProduct = productRepository.findById(id)
+        Product existingProduct = productRepository.findPlacementById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Product not found with id: " + id));
 
+        String previousCategoryId = existingProduct.getCategory() != null
+                ? existingProduct.getCategory().getId() : null;
+        Integer previousStock = existingProduct.getCountInStock();
+
         // Validate category if changed
-        if (!existingProduct.getCategory().getId().equals(productRequestDto.getCategoryId())) {
-            Category category = categoryRepository.findById(productRequestDto.getCategoryId())
-                    .orElseThrow(() -> new BadRequestException(
-                            "Category not found with id: " + productRequestDto.getCategoryId()));
-            existingProduct.setCategory(category);
+        CategorySummary category = existingProduct.getCategory();
+        if (previousCategoryId == null || !previousCategoryId.equals(productRequestDto.getCategoryId())) {
+            category = resolveCategory(productRequestDto.getCategoryId());
         }
 
-        modelMapper.map(productRequestDto, existingProduct);
-        Product updatedProduct = productRepository.save(existingProduct);
-        return modelMapper.map(updatedProduct, ProductResponseDto.class);
+        // Only the editable fields are written, review aggregates and concurrent stock moves stay intact
+        Product details = modelMapper.map(productRequestDto, Product.class);
+        details.setCategory(category);
+        details.setLastModified(LocalDateTime.now());
+        Product updatedProduct = productRepository.updateDetails(id, details)
+                .orElseThrow(() -> new ResourceNotFoundException("Product not found with id: " + id));
+        categoryStatsService.recordMove(previousCategoryId, previousStock, category.getId(),
+                updatedProduct.getCountInStock());
+        eventPublisher.publishEvent(ProductsChangedEvent.of(id));
+        return productMapper.toResponseDto(updatedProduct);
     }
 
+    /**
+     * Stock decrements guarded against going negative run one by one, a bulkWrite
+     * only reports how many matched and not which; everything else is one bulkWrite.
+     * Caches are invalidated for every id sent, whichever part of the batch failed.
+     */
     @Override
-    public void deleteProduct(String id) {
+    public ProductBulkUpdateResultDto bulkUpdateProducts(ProductBulkUpdateRequestDto bulkUpdateRequestDto) {
+        List<ProductBulkUpdateRequestDto.ProductPatchDto> patches = bulkUpdateRequestDto.getUpdates();
+        List<Pair<Query, Update>> operations = new ArrayList<>(patches.size());
+        List<String> operationIds = new ArrayList<>(patches.size());
+        List<Pair<Query, Update>> guardedOperations = new ArrayList<>();
+        List<String> guardedIds = new ArrayList<>();
+        List<String> productIds = new ArrayList<>(patches.size());
+        boolean stockChanged = false;
+
+        for (ProductBulkUpdateRequestDto.ProductPatchDto patch : patches) {
+            Pair<Query, Update> operation = toPatchOperation(patch);
+            if (patch.getStockDelta() != null && patch.getStockDelta() < 0) {
+                guardedOperations.add(operation);
+                guardedIds.add(patch.getId());
+            } else {
+                operations.add(operation);
+                operationIds.add(patch.getId());
+            }
+            productIds.add(patch.getId());
+            stockChanged |= patch.getCountInStock() != null || patch.getStockDelta() != null;
+        }
+
+        int matched = 0;
+        int modified = 0;
+        Set<String> unmatchedIds = new LinkedHashSet<>();
+        List<ProductBulkUpdateResultDto.FailedUpdateDto> failures = new ArrayList<>();
+        try {
+            ProductRepositoryCustom.BulkUpdateResult result = productRepository.updateUnordered(operations);
+            matched += result.matched();
+            modified += result.modified();
+            new TreeMap<>(result.failures()).forEach((index, reason) ->
+                    failures.add(new ProductBulkUpdateResultDto.FailedUpdateDto(operationIds.get(index), reason)));
+            if (result.matched() + result.failures().size() < operations.size()) {
+                // Unguarded updates match any existing product, only unknown ids miss
+                Set<String> existingIds = new HashSet<>(productRepository.findExistingIds(operationIds));
+                operationIds.stream().filter(id -> !existingIds.contains(id)).forEach(unmatchedIds::add);
+            }
+
+            for (int i = 0; i < guardedOperations.size(); i++) {
+                try {
+                    if (productRepository.updateOne(guardedOperations.get(i))) {
+                        matched++;
+                        modified++;
+                    } else {
+                        unmatchedIds.add(guardedIds.get(i));
+                    }
+                } catch (DataAccessException e) {
+                    failures.add(new ProductBulkUpdateResultDto.FailedUpdateDto(guardedIds.get(i), e.getMessage()));
+                }
+            }
+        } finally {
+            if (stockChanged) {
+                // Stock was written blind, so in-stock transitions are unknown; recount the affected categories
+                categoryStatsService.recountForProducts(productIds);
+            }
+            eventPublisher.publishEvent(new ProductsChangedEvent(productIds));
+        }
+
+        return ProductBulkUpdateResultDto.builder()
+                .requested(patches.size())
+                .matched(matched)
+                .modified(modified)
+                .unmatchedIds(new ArrayList<>(unmatchedIds))
+                .failures(failures)
+                .build();
+    }
+
+    @Override
+    public ProductResponseDto addProductImage(String id, MultipartFile file) {
         if (!productRepository.existsById(id)) {
             throw new ResourceNotFoundException("Product not found with id: " + id);
         }
+
+        String imageUrl = imageStorageService.store(file);
+        if (!productRepository.addImage(id, imageUrl, LocalDateTime.now())) {
+            throw new ResourceNotFoundException("Product not found with id: " + id);
+        }
+        eventPublisher.publishEvent(ProductsChangedEvent.of(id));
+        return getProductById(id);
+    }
+
+    @Override
+    public void deleteProduct(String id) {
+        Product product = productRepository.findPlacementById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Product not found with id: " + id));
         productRepository.deleteById(id);
+        String categoryId = product.getCategory() != null ? product.getCategory().getId() : null;
+        categoryStatsService.recordMove(categoryId, product.getCountInStock(), null, null);
+        eventPublisher.publishEvent(ProductsChangedEvent.of(id));
+    }
+
+    /**
+     * Helper method to validate a category id against the in-memory category table
+     */
+    private CategorySummary resolveCategory(String categoryId) {
+        return categoryTable.findById(categoryId)
+                .map(CategorySummary::of)
+                .orElseThrow(() -> new BadRequestException("Category not found with id: " + categoryId));
+    }
+
+    /**
+     * Helper method to drop the total from an in-memory page, so responses keep the
+     * same shape whichever path served them
+     */
+    private Slice<Product> toSlice(Page<Product> page) {
+        return new SliceImpl<>(page.getContent(), page.getPageable(), page.hasNext());
+    }
+
+    /**
+     * Helper method to normalize search criteria, so equivalent searches share one
+     * cache entry. The name match is case-insensitive, lowercasing it does not
+     * change the result. A category expands to its subtree from the in-memory table.
+     */
+    private ProductSearchCriteria normalize(ProductSearchCriteria criteria) {
+        String name = criteria.getName() != null
+                ? criteria.getName().trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT)
+                : null;
+        String brand = criteria.getBrand() != null ? criteria.getBrand().trim() : null;
+        return ProductSearchCriteria.builder()
+                .name(name == null || name.isEmpty() ? null : name)
+                .categoryId(criteria.getCategoryId())
+                .categoryIds(criteria.getCategoryId() != null
+                        ? categoryTable.findSubtreeIds(criteria.getCategoryId())
+                        : null)
+                .minPrice(criteria.getMinPrice() != null ? criteria.getMinPrice().stripTrailingZeros() : null)
+                .maxPrice(criteria.getMaxPrice() != null ? criteria.getMaxPrice().stripTrailingZeros() : null)
+                .minRating(criteria.getMinRating())
+                .brand(brand == null || brand.isEmpty() ? null : brand)
+                .inStock(Boolean.TRUE.equals(criteria.getInStock()) ? Boolean.TRUE : null)
+                .build();
+    }
+
+    /**
+     * Helper method to turn one patch into a targeted $set/$inc update
+     * Negative stock deltas only match while enough stock is left
+     */
+    private Pair<Query, Update> toPatchOperation(ProductBulkUpdateRequestDto.ProductPatchDto patch) {
+        if (patch.getCountInStock() != null && patch.getStockDelta() != null) {
+            throw new BadRequestException("Product " + patch.getId() + ": countInStock and stockDelta are exclusive");
+        }
+
+        Criteria criteria = Criteria.where("id").is(patch.getId());
+        Update update = new Update();
+        if (patch.getPrice() != null) {
+            update.set("price", patch.getPrice());
+        }
+        if (patch.getCountInStock() != null) {
+            update.set("countInStock", patch.getCountInStock());
+        }
+        if (patch.getStockDelta() != null) {
+            update.inc("countInStock", patch.getStockDelta());
+            if (patch.getStockDelta() < 0) {
+                criteria = criteria.and("countInStock").gte(-patch.getStockDelta());
+            }
+        }
+        if (patch.getIsFeatured() != null) {
+            update.set("isFeatured", patch.getIsFeatured());
+        }
+        if (update.getUpdateObject().isEmpty()) {
+            throw new BadRequestException("Product " + patch.getId() + ": nothing to update");
+        }
+        update.set("lastModified", LocalDateTime.now());
+        return Pair.of(Query.query(criteria), update);
     }
 }
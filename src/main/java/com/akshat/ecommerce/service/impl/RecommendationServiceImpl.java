@@ -0,0 +1,115 @@
+package com.akshat.ecommerce.service.impl;
+
+import com.akshat.ecommerce.cache.ProductCardCache;
+import com.akshat.ecommerce.config.AppConfig;
+import com.akshat.ecommerce.dto.response.ProductCardDto;
+import com.akshat.ecommerce.event.OrderCreatedEvent;
+import com.akshat.ecommerce.exception.BadRequestException;
+import com.akshat.ecommerce.repository.OrderRepository;
+import com.akshat.ecommerce.service.RecommendationService;
+import com.akshat.ecommerce.util.CoOccurrenceMatrix;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Recommendation Service Implementation
+ * Design Pattern: Observer Pattern (incremental updates on new orders), Immutable
+ * Snapshot (rebuilt matrix swapped in)
+ * Optimization: The co-occurrence matrix is built by a cursor scan over all orders
+ * on a background thread and kept current from OrderCreatedEvent; top-N lookups and
+ * their product cards are served from memory. Orders taken on other nodes only
+ * reach this node's matrix through the periodic rebuild, which scans into a fresh
+ * matrix and swaps it in.
+ */
+@Service
+@Slf4j
+public class RecommendationServiceImpl implements RecommendationService {
+
+    private final OrderRepository orderRepository;
+    private final ProductCardCache productCardCache;
+    private final AppConfig.Recommendations settings;
+    private final AtomicBoolean building = new AtomicBoolean();
+
+    private volatile CoOccurrenceMatrix matrix;
+    // Matrix being scanned, also fed new orders so none are lost at the swap
+    private volatile CoOccurrenceMatrix next;
+
+    public RecommendationServiceImpl(OrderRepository orderRepository, ProductCardCache productCardCache,
+            AppConfig appConfig) {
+        this.orderRepository = orderRepository;
+        this.productCardCache = productCardCache;
+        this.settings = appConfig.getRecommendations();
+        this.matrix = newMatrix();
+    }
+
+    @Override
+    public List<ProductCardDto> getFrequentlyBoughtTogether(String productId, int limit) {
+        if (limit < 1) {
+            throw new BadRequestException("Limit must be at least 1");
+        }
+        List<String> relatedIds = matrix.related(productId, limit);
+        if (relatedIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return productCardCache.getAll(relatedIds);
+    }
+
+    @EventListener
+    public void onOrderCreated(OrderCreatedEvent event) {
+        CoOccurrenceMatrix current = matrix;
+        current.add(event.getProductIds(), settings.getMaxItemsPerOrder());
+        CoOccurrenceMatrix scanning = next;
+        if (scanning != null && scanning != current) {
+            scanning.add(event.getProductIds(), settings.getMaxItemsPerOrder());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuildMatrix();
+    }
+
+    /**
+     * Scans all orders into a fresh matrix on a background thread, so neither
+     * startup nor the scheduler thread waits for it, and swaps it in when done.
+     * Orders created while the scan runs may be counted twice, which only nudges
+     * their pairs up slightly.
+     */
+    @Scheduled(initialDelayString = "#{@appConfig.recommendations.rebuildIntervalMs}",
+            fixedDelayString = "#{@appConfig.recommendations.rebuildIntervalMs}")
+    public void rebuildMatrix() {
+        if (!building.compareAndSet(false, true)) {
+            return;
+        }
+        Thread builder = new Thread(() -> {
+            long start = System.currentTimeMillis();
+            CoOccurrenceMatrix rebuilt = newMatrix();
+            next = rebuilt;
+            try {
+                orderRepository.scanOrderProductIds(settings.getScanBatchSize(),
+                        productIds -> rebuilt.add(productIds, settings.getMaxItemsPerOrder()));
+                matrix = rebuilt;
+                log.info("Co-occurrence matrix built for {} products in {}ms", rebuilt.productCount(),
+                        System.currentTimeMillis() - start);
+            } catch (RuntimeException e) {
+                log.error("Failed to build co-occurrence matrix, keeping the previous one", e);
+            } finally {
+                next = null;
+                building.set(false);
+            }
+        }, "co-occurrence-builder");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    private CoOccurrenceMatrix newMatrix() {
+        return new CoOccurrenceMatrix(settings.getMaxNeighbors(), settings.getMaxProducts());
+    }
+}
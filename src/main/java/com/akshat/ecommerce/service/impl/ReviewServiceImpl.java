@@ -0,0 +1,146 @@
+package com.akshat.ecommerce.service.impl;
+
+import com.akshat.ecommerce.config.AppConfig;
+import com.akshat.ecommerce.dto.request.ReviewRequestDto;
+import com.akshat.ecommerce.dto.response.RatingSummaryDto;
+import com.akshat.ecommerce.dto.response.ReviewPageDto;
+import com.akshat.ecommerce.dto.response.ReviewResponseDto;
+import com.akshat.ecommerce.event.ProductsChangedEvent;
+import com.akshat.ecommerce.exception.BadRequestException;
+import com.akshat.ecommerce.exception.ResourceNotFoundException;
+import com.akshat.ecommerce.model.Product;
+import com.akshat.ecommerce.model.Review;
+import com.akshat.ecommerce.model.User;
+import com.akshat.ecommerce.repository.ProductRepository;
+import com.akshat.ecommerce.repository.ReviewRepository;
+import com.akshat.ecommerce.repository.UserRepository;
+import com.akshat.ecommerce.service.ReviewService;
+import com.akshat.ecommerce.util.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Review Service Implementation
+ * Design Pattern: Service Layer Pattern
+ * Optimization: Rating aggregates are adjusted by one atomic update per review
+ * write instead of re-reading all reviews; listings use keyset cursors
+ */
+@Service
+@RequiredArgsConstructor
+public class ReviewServiceImpl implements ReviewService {
+
+    private final ReviewRepository reviewRepository;
+    private final ProductRepository productRepository;
+    private final UserRepository userRepository;
+    private final ModelMapper modelMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AppConfig appConfig;
+
+    @Override
+    public ReviewResponseDto createReview(String productId, String userId, ReviewRequestDto reviewRequestDto) {
+        if (!productRepository.existsById(productId)) {
+            throw new ResourceNotFoundException("Product not found with id: " + productId);
+        }
+
+        Review review = Review.builder()
+                .productId(productId)
+                .userId(userId)
+                .userName(userRepository.findById(userId).map(User::getName).orElse(null))
+                .rating(reviewRequestDto.getRating())
+                .comment(reviewRequestDto.getComment())
+                // Mongo stores milliseconds; keep the in-memory value identical for cursors
+                .dateCreated(LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS))
+                .build();
+
+        Review savedReview;
+        try {
+            savedReview = reviewRepository.insert(review);
+        } catch (DuplicateKeyException e) {
+            throw new BadRequestException("You have already reviewed this product");
+        }
+
+        if (!productRepository.applyRating(productId, savedReview.getRating(), 1, LocalDateTime.now())) {
+            // Product was deleted in between
+            reviewRepository.removeById(savedReview.getId());
+            throw new ResourceNotFoundException("Product not found with id: " + productId);
+        }
+        eventPublisher.publishEvent(ProductsChangedEvent.of(productId));
+        return modelMapper.map(savedReview, ReviewResponseDto.class);
+    }
+
+    @Override
+    public ReviewPageDto getReviews(String productId, String cursor, int limit) {
+        if (limit < 1 || limit > appConfig.getPagination().getMaxSize()) {
+            throw new BadRequestException("Limit must be between 1 and " + appConfig.getPagination().getMaxSize());
+        }
+
+        LocalDateTime afterDate = null;
+        String afterId = null;
+        if (cursor != null) {
+            KeysetCursor.Position position = KeysetCursor.decode(cursor);
+            afterDate = LocalDateTime.ofInstant(Instant.ofEpochMilli(position.longValue()), ZoneOffset.UTC);
+            afterId = position.id();
+        }
+
+        List<Review> fetched = reviewRepository.findPageByProductId(productId, afterDate, afterId,
+                KeysetCursor.fetchSize(limit));
+        KeysetCursor.Page<Review> page = KeysetCursor.page(fetched, limit, Review::getId,
+                review -> Long.toString(review.getDateCreated().toInstant(ZoneOffset.UTC).toEpochMilli()));
+
+        return ReviewPageDto.builder()
+                .reviews(page.rows().stream()
+                        .map(review -> modelMapper.map(review, ReviewResponseDto.class))
+                        .collect(Collectors.toList()))
+                .nextCursor(page.nextCursor())
+                .build();
+    }
+
+    @Override
+    public RatingSummaryDto getRatingSummary(String productId) {
+        Product product = productRepository.findRatingSummaryById(productId)
+                .orElseThrow(() -> new ResourceNotFoundException("Product not found with id: " + productId));
+
+        Map<Integer, Integer> histogram = new TreeMap<>();
+        for (int stars = 1; stars <= 5; stars++) {
+            histogram.put(stars, 0);
+        }
+        if (product.getRatingHistogram() != null) {
+            product.getRatingHistogram().forEach((stars, count) -> histogram.put(Integer.valueOf(stars), count));
+        }
+
+        return RatingSummaryDto.builder()
+                .productId(productId)
+                .rating(product.getRating())
+                .numReviews(product.getNumReviews())
+                .histogram(histogram)
+                .build();
+    }
+
+    @Override
+    public void deleteReview(String productId, String reviewId, String userId, boolean isAdmin) {
+        Review review = reviewRepository.findById(reviewId)
+                .filter(existing -> existing.getProductId().equals(productId))
+                .orElseThrow(() -> new ResourceNotFoundException("Review not found with id: " + reviewId));
+        if (!isAdmin && !review.getUserId().equals(userId)) {
+            throw new AccessDeniedException("Only the author can delete this review");
+        }
+
+        if (reviewRepository.removeById(reviewId)) {
+            productRepository.applyRating(productId, review.getRating(), -1, LocalDateTime.now());
+            eventPublisher.publishEvent(ProductsChangedEvent.of(productId));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.akshat.ecommerce.service.impl;
+
+import com.akshat.ecommerce.cache.ProductCardCache;
+import com.akshat.ecommerce.cache.ProductViewCounter;
+import com.akshat.ecommerce.config.AppConfig;
+import com.akshat.ecommerce.dto.response.ProductCardDto;
+import com.akshat.ecommerce.exception.BadRequestException;
+import com.akshat.ecommerce.repository.ProductViewBucketRepository;
+import com.akshat.ecommerce.service.TrendingService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Trending Service Implementation
+ * Design Pattern: Write-Behind Pattern, Scheduled Job Pattern
+ * Optimization: Views are counted in memory and flushed as one bulkWrite per
+ * interval into hourly buckets; a restart loses at most one flush interval.
+ * Scores decay exponentially with bucket age and are recomputed periodically,
+ * so the trending endpoint never aggregates on the request path. Product cards come
+ * from the in-memory card cache, so a request normally does not touch Mongo at all
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TrendingServiceImpl implements TrendingService {
+
+    private final ProductViewCounter viewCounter;
+    private final ProductViewBucketRepository productViewBucketRepository;
+    private final ProductCardCache productCardCache;
+    private final AppConfig appConfig;
+
+    private volatile List<String> trendingProductIds = Collections.emptyList();
+
+    @Override
+    public void recordView(String productId) {
+        viewCounter.record(productId);
+    }
+
+    @Override
+    public List<ProductCardDto> getTrendingProducts(int limit) {
+        if (limit < 1) {
+            throw new BadRequestException("Limit must be at least 1");
+        }
+        List<String> productIds = trendingProductIds.subList(0, Math.min(limit, trendingProductIds.size()));
+        if (productIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        // Keep score order; products deleted since the last recompute are skipped
+        return productCardCache.getAll(productIds);
+    }
+
+    @Scheduled(fixedDelayString = "#{@appConfig.trending.flushIntervalMs}")
+    public void flushViews() {
+        Map<String, Long> views = viewCounter.drain();
+        if (views.isEmpty()) {
+            return;
+        }
+        try {
+            productViewBucketRepository.incrementViews(LocalDateTime.now().truncatedTo(ChronoUnit.HOURS), views);
+        } catch (RuntimeException e) {
+            viewCounter.restore(views);
+            log.warn("Failed to flush {} product view counters, retrying next interval: {}", views.size(),
+                    e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "#{@appConfig.trending.recomputeIntervalMs}")
+    public void recomputeTrending() {
+        AppConfig.Trending settings = appConfig.getTrending();
+        LocalDateTime since = LocalDateTime.now().minusHours(settings.getWindowHours());
+        trendingProductIds = List.copyOf(productViewBucketRepository.findTopProductIds(since,
+                Duration.ofHours(settings.getHalfLifeHours()), settings.getMaxSize()));
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushViews();
+    }
+}
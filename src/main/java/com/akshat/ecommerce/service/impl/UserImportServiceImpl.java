@@ -0,0 +1,85 @@
+package com.akshat.ecommerce.service.impl;
+
+import com.akshat.ecommerce.config.AppConfig;
+import com.akshat.ecommerce.dto.request.UserRegistrationDto;
+import com.akshat.ecommerce.dto.response.ImportResultDto;
+import com.akshat.ecommerce.model.User;
+import com.akshat.ecommerce.repository.UserRepository;
+import com.akshat.ecommerce.service.PasswordHashingService;
+import com.akshat.ecommerce.service.UserImportService;
+import com.akshat.ecommerce.util.ImportRun;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.modelmapper.ModelMapper;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * User Import Service Implementation
+ * Design Pattern: Pipeline Pattern (read, validate, hash, write per batch)
+ * Optimization: Streaming input and parallel row validation (ImportRun),
+ * passwords of a batch hashed in parallel on the bulk hashing pool, unordered
+ * insertMany per batch. Duplicate emails are rejected by the unique index
+ * instead of a lookup per row.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserImportServiceImpl implements UserImportService {
+
+    private final UserRepository userRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final ModelMapper modelMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final AppConfig appConfig;
+
+    @Override
+    public ImportResultDto importUsers(InputStream input, Integer batchSize) {
+        AppConfig.UserImport settings = appConfig.getUserImport();
+        int effectiveBatchSize = ImportRun.resolveBatchSize(batchSize, settings.getBatchSize(),
+                settings.getMaxBatchSize());
+
+        ImportRun run = new ImportRun("User import", settings.getMaxReportedRejections());
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            run.forEachBatch(reader, 0, effectiveBatchSize, batch -> processBatch(batch, run));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read user import stream", e);
+        }
+        return run.finish();
+    }
+
+    private void processBatch(List<ImportRun.Line> batch, ImportRun run) {
+        List<ImportRun.Row<UserRegistrationDto>> rows = run.parseValid(batch,
+                text -> objectMapper.readValue(text, UserRegistrationDto.class), validator);
+
+        List<String> hashes = passwordHashingService.encodeAll(rows.stream()
+                .map(row -> row.value().getPassword())
+                .collect(Collectors.toList()));
+        List<User> users = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            User user = modelMapper.map(rows.get(i).value(), User.class);
+            user.setPasswordHash(hashes.get(i));
+            users.add(user);
+        }
+
+        Map<Integer, BulkWriteError> failures = userRepository.insertUnordered(users);
+        failures.forEach((index, error) -> run.reject(rows.get(index).line(),
+                ErrorCategory.fromErrorCode(error.getCode()) == ErrorCategory.DUPLICATE_KEY
+                        ? "User with email '" + users.get(index).getEmail() + "' already exists"
+                        : error.getMessage()));
+        run.completeBatch(batch.size(), users.size() - failures.size());
+    }
+}
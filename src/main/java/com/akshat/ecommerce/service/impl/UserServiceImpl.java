@@ -1,21 +1,33 @@
 package com.akshat.ecommerce.service.impl;
 
+import com.akshat.ecommerce.cache.RevokedTokenList;
 import com.akshat.ecommerce.dto.request.UserLoginDto;
 import com.akshat.ecommerce.dto.request.UserRegistrationDto;
 import com.akshat.ecommerce.dto.response.AuthResponseDto;
+import com.akshat.ecommerce.config.AppConfig;
+import com.akshat.ecommerce.dto.response.UserPageDto;
 import com.akshat.ecommerce.dto.response.UserResponseDto;
+import com.akshat.ecommerce.dto.response.UserSummaryDto;
 import com.akshat.ecommerce.exception.BadRequestException;
 import com.akshat.ecommerce.exception.ResourceNotFoundException;
 import com.akshat.ecommerce.exception.UnauthorizedException;
+import com.akshat.ecommerce.model.RevokedToken;
 import com.akshat.ecommerce.model.User;
+import com.akshat.ecommerce.repository.RevokedTokenRepository;
 import com.akshat.ecommerce.repository.UserRepository;
 import com.akshat.ecommerce.secuity.JwtUtil;
+import com.akshat.ecommerce.service.PasswordHashingService;
 import com.akshat.ecommerce.service.UserService;
+import com.akshat.ecommerce.util.KeysetCursor;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -27,23 +39,29 @@ import java.util.stream.Collectors;
  */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final ModelMapper modelMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtUtil jwtUtil;
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final RevokedTokenList revokedTokenList;
+    private final AppConfig appConfig;
 
     @Override
     public UserResponseDto registerUser(UserRegistrationDto userRegistrationDto) {
-        if (userRepository.existsByEmail(userRegistrationDto.getEmail())) {
-            throw new BadRequestException("User with email '" + userRegistrationDto.getEmail() + "' already exists");
-        }
-
         User user = modelMapper.map(userRegistrationDto, User.class);
-        user.setPasswordHash(passwordEncoder.encode(userRegistrationDto.getPassword()));
+        user.setPasswordHash(passwordHashingService.encode(userRegistrationDto.getPassword()));
 
-        User savedUser = userRepository.save(user);
+        // The unique email index decides, no exists pre-check that could race
+        User savedUser;
+        try {
+            savedUser = userRepository.insert(user);
+        } catch (DuplicateKeyException e) {
+            throw new BadRequestException("User with email '" + userRegistrationDto.getEmail() + "' already exists");
+        }
         return modelMapper.map(savedUser, UserResponseDto.class);
     }
 
@@ -52,11 +70,15 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findByEmail(userLoginDto.getEmail())
                 .orElseThrow(() -> new UnauthorizedException("Invalid email or password"));
 
-        if (!passwordEncoder.matches(userLoginDto.getPassword(), user.getPasswordHash())) {
+        if (!passwordHashingService.matches(userLoginDto.getPassword(), user.getPasswordHash())) {
             throw new UnauthorizedException("Invalid email or password");
         }
+        if (passwordHashingService.needsUpgrade(user.getPasswordHash())) {
+            upgradePasswordHash(user, userLoginDto.getPassword());
+        }
 
-        String token = jwtUtil.generateToken(user.getEmail());
+        String token = jwtUtil.generateToken(user.getEmail(), user.getId(),
+                Boolean.TRUE.equals(user.getIsAdmin()));
         UserResponseDto userResponse = modelMapper.map(user, UserResponseDto.class);
 
         return AuthResponseDto.builder()
@@ -65,6 +87,26 @@ public class UserServiceImpl implements UserService {
                 .build();
     }
 
+    /**
+     * Persists the token's jti until its expiry and applies it locally at once;
+     * other nodes pick it up on their next poll
+     */
+    @Override
+    public void logoutUser(String token) {
+        Claims claims = jwtUtil.extractAllClaims(token);
+        if (claims.getId() == null) {
+            throw new BadRequestException("Token predates revocation support and cannot be revoked");
+        }
+
+        revokedTokenRepository.save(RevokedToken.builder()
+                .id(claims.getId())
+                .userId(claims.get(JwtUtil.USER_ID_CLAIM, String.class))
+                .revokedAt(LocalDateTime.now())
+                .expiresAt(LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault()))
+                .build());
+        revokedTokenList.add(claims.getId(), claims.getExpiration().getTime());
+    }
+
     @Override
     public UserResponseDto getUserById(String id) {
         User user = userRepository.findById(id)
@@ -73,10 +115,29 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public List<UserResponseDto> getAllUsers() {
-        return userRepository.findAll().stream()
-                .map(user -> modelMapper.map(user, UserResponseDto.class))
-                .collect(Collectors.toList());
+    public UserPageDto getUsers(String emailPrefix, String namePrefix, String cursor, int requestedLimit) {
+        if (requestedLimit < 1) {
+            throw new BadRequestException("Limit must be at least 1");
+        }
+        // Oversized pages are capped rather than rejected
+        int limit = Math.min(requestedLimit, appConfig.getPagination().getMaxSize());
+        if (emailPrefix != null && namePrefix != null) {
+            throw new BadRequestException("Search by either email or name, not both");
+        }
+
+        KeysetCursor.Position after = cursor != null ? KeysetCursor.decode(cursor) : null;
+        List<User> fetched = userRepository.findDirectoryPage(emailPrefix, namePrefix,
+                after != null ? after.value() : null, after != null ? after.id() : null,
+                KeysetCursor.fetchSize(limit));
+        KeysetCursor.Page<User> page = KeysetCursor.page(fetched, limit, User::getId,
+                emailPrefix != null ? User::getEmail : User::getName);
+
+        return UserPageDto.builder()
+                .users(page.rows().stream()
+                        .map(user -> modelMapper.map(user, UserSummaryDto.class))
+                        .collect(Collectors.toList()))
+                .nextCursor(page.nextCursor())
+                .build();
     }
 
     @Override
@@ -84,17 +145,17 @@ public class UserServiceImpl implements UserService {
         User existingUser = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
 
-        if (!existingUser.getEmail().equals(userRegistrationDto.getEmail())
-                && userRepository.existsByEmail(userRegistrationDto.getEmail())) {
-            throw new BadRequestException("User with email '" + userRegistrationDto.getEmail() + "' already exists");
-        }
-
         modelMapper.map(userRegistrationDto, existingUser);
         if (userRegistrationDto.getPassword() != null && !userRegistrationDto.getPassword().isEmpty()) {
-            existingUser.setPasswordHash(passwordEncoder.encode(userRegistrationDto.getPassword()));
+            existingUser.setPasswordHash(passwordHashingService.encode(userRegistrationDto.getPassword()));
         }
 
-        User updatedUser = userRepository.save(existingUser);
+        User updatedUser;
+        try {
+            updatedUser = userRepository.save(existingUser);
+        } catch (DuplicateKeyException e) {
+            throw new BadRequestException("User with email '" + userRegistrationDto.getEmail() + "' already exists");
+        }
         return modelMapper.map(updatedUser, UserResponseDto.class);
     }
 
@@ -105,4 +166,20 @@ public class UserServiceImpl implements UserService {
         }
         userRepository.deleteById(id);
     }
-}
\ No newline at end of file
+
+    /**
+     * Helper method to rehash at the configured cost while the plain password is
+     * at hand. Best effort, the login succeeds either way. Only the hash field is
+     * written, and not at all if it changed since the user was read.
+     */
+    private void upgradePasswordHash(User user, String rawPassword) {
+        try {
+            String upgradedHash = passwordHashingService.encode(rawPassword);
+            if (userRepository.replacePasswordHash(user.getId(), user.getPasswordHash(), upgradedHash)) {
+                user.setPasswordHash(upgradedHash);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not upgrade password hash for user {}: {}", user.getId(), e.getMessage());
+        }
+    }
+}
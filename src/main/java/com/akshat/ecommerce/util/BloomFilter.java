@@ -0,0 +1,73 @@
+package com.akshat.ecommerce.util;
+
+/**
+ * Bloom Filter
+ * Design Pattern: Probabilistic Set
+ * Optimization: Answers "definitely absent" from a few bit probes with no
+ * allocation; a positive answer must be confirmed against the exact set. Sized
+ * for a 1% false-positive rate at the expected number of keys. Immutable once
+ * built, so it can be shared across threads.
+ */
+public final class BloomFilter {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final long[] bits;
+    private final int bitCount;
+    private final int hashCount;
+
+    private BloomFilter(int expectedKeys) {
+        int keys = Math.max(expectedKeys, 64);
+        long optimalBits = (long) Math.ceil(-keys * Math.log(FALSE_POSITIVE_RATE) / (Math.log(2) * Math.log(2)));
+        this.bits = new long[(int) ((optimalBits + 63) / 64)];
+        this.bitCount = bits.length * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / keys * Math.log(2)));
+    }
+
+    public static BloomFilter of(Iterable<String> keys, int expectedKeys) {
+        BloomFilter filter = new BloomFilter(expectedKeys);
+        for (String key : keys) {
+            filter.add(key);
+        }
+        return filter;
+    }
+
+    public boolean mightContain(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void add(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitCount);
+            bits[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    /**
+     * 64-bit FNV-1a over the characters with a final avalanche, split into two
+     * 32-bit hashes for double hashing
+     */
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
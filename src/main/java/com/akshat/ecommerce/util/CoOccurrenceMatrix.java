@@ -0,0 +1,116 @@
+package com.akshat.ecommerce.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sparse product co-occurrence matrix
+ * Design Pattern: Flyweight Pattern (product ids interned to dense ints)
+ * Optimization: Each row is a bounded primitive {@link TopKIntCounter}, so memory is
+ * capped at maxProducts x maxNeighbors counters however large the catalog grows.
+ * Rows are locked individually; lookups never block on unrelated products.
+ */
+public class CoOccurrenceMatrix {
+
+    private final int maxNeighbors;
+    private final int maxProducts;
+
+    private final ConcurrentHashMap<String, Integer> indexById = new ConcurrentHashMap<>();
+    private volatile String[] idsByIndex = new String[1024];
+    private volatile TopKIntCounter[] rows = new TopKIntCounter[1024];
+    private int nextIndex;
+
+    public CoOccurrenceMatrix(int maxNeighbors, int maxProducts) {
+        this.maxNeighbors = maxNeighbors;
+        this.maxProducts = maxProducts;
+    }
+
+    /**
+     * Counts every pair of distinct products bought together in one order. Orders
+     * with a single product have no pairs and do not take up a product slot.
+     */
+    public void add(Collection<String> productIds, int maxItems) {
+        Set<String> distinct = new LinkedHashSet<>(productIds);
+        if (distinct.size() < 2) {
+            return;
+        }
+        int[] indexes = distinct.stream()
+                .limit(maxItems)
+                .mapToInt(this::intern)
+                .filter(index -> index >= 0)
+                .toArray();
+        if (indexes.length < 2) {
+            return;
+        }
+
+        TopKIntCounter[] currentRows = rows;
+        for (int i = 0; i < indexes.length; i++) {
+            TopKIntCounter row = currentRows[indexes[i]];
+            synchronized (row) {
+                for (int j = 0; j < indexes.length; j++) {
+                    if (i != j) {
+                        row.increment(indexes[j]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return up to {@code limit} product ids most often bought with the product
+     */
+    public List<String> related(String productId, int limit) {
+        Integer index = indexById.get(productId);
+        if (index == null) {
+            return Collections.emptyList();
+        }
+        TopKIntCounter row = rows[index];
+        int[] top;
+        synchronized (row) {
+            top = row.top(limit);
+        }
+        String[] ids = idsByIndex;
+        List<String> related = new ArrayList<>(top.length);
+        for (int neighbor : top) {
+            related.add(ids[neighbor]);
+        }
+        return related;
+    }
+
+    public int productCount() {
+        return indexById.size();
+    }
+
+    private int intern(String productId) {
+        Integer index = indexById.get(productId);
+        if (index != null) {
+            return index;
+        }
+        synchronized (this) {
+            index = indexById.get(productId);
+            if (index != null) {
+                return index;
+            }
+            if (nextIndex >= maxProducts) {
+                return -1;
+            }
+            int assigned = nextIndex++;
+            if (assigned == rows.length) {
+                int capacity = rows.length * 2;
+                idsByIndex = Arrays.copyOf(idsByIndex, capacity);
+                rows = Arrays.copyOf(rows, capacity);
+            }
+            idsByIndex[assigned] = productId;
+            rows[assigned] = new TopKIntCounter(maxNeighbors);
+            // Publishing the index last makes the row and id visible to readers first
+            indexById.put(productId, assigned);
+            return assigned;
+        }
+    }
+}
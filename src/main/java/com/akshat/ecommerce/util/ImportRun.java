@@ -0,0 +1,179 @@
+package com.akshat.ecommerce.util;
+
+import com.akshat.ecommerce.dto.response.ImportResultDto;
+import com.akshat.ecommerce.exception.BadRequestException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Import Run
+ * Design Pattern: Pipeline Pattern (read, validate, write per batch)
+ * Optimization: Streams the input line by line and hands it on in fixed-size
+ * batches, so memory is bounded by one batch whatever the import size; rows of a
+ * batch are parsed and validated in parallel. Collects counts, throughput and the
+ * first rejections for the result. One instance per import, only touched from
+ * the request thread.
+ */
+@Slf4j
+public final class ImportRun {
+
+    private final String name;
+    private final int maxReportedRejections;
+    private final long startNanos = System.nanoTime();
+    private final List<ImportResultDto.RejectedRowDto> rejections = new ArrayList<>();
+    private long total;
+    private long imported;
+    private long rejected;
+
+    /**
+     * @param name used in the log lines, e.g. "Product import"
+     */
+    public ImportRun(String name, int maxReportedRejections) {
+        this.name = name;
+        this.maxReportedRejections = maxReportedRejections;
+    }
+
+    /**
+     * The requested batch size, or the default when none was given
+     */
+    public static int resolveBatchSize(Integer requested, int defaultSize, int maxSize) {
+        int batchSize = requested != null ? requested : defaultSize;
+        if (batchSize < 1 || batchSize > maxSize) {
+            throw new BadRequestException("Batch size must be between 1 and " + maxSize);
+        }
+        return batchSize;
+    }
+
+    /**
+     * Reads the remaining lines and passes the non-blank ones on in batches of
+     * batchSize, the last one possibly smaller. Line numbers continue after
+     * linesRead, so rejections point at the line in the uploaded file.
+     */
+    public void forEachBatch(BufferedReader reader, long linesRead, int batchSize, Consumer<List<Line>> handler)
+            throws IOException {
+        List<Line> batch = new ArrayList<>(batchSize);
+        long lineNumber = linesRead;
+        String text;
+        while ((text = reader.readLine()) != null) {
+            lineNumber++;
+            if (text.isBlank()) {
+                continue;
+            }
+            batch.add(new Line(lineNumber, text));
+            if (batch.size() == batchSize) {
+                handler.accept(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            handler.accept(batch);
+        }
+    }
+
+    /**
+     * Parses and bean-validates the batch in parallel. Rows that fail either are
+     * rejected here; the valid ones come back in input order.
+     */
+    public <T> List<Row<T>> parseValid(List<Line> batch, RowParser<T> parser, Validator validator) {
+        List<Parsed<T>> parsed = batch.parallelStream()
+                .map(line -> parse(line, parser, validator))
+                .collect(Collectors.toList());
+
+        List<Row<T>> valid = new ArrayList<>(parsed.size());
+        for (Parsed<T> row : parsed) {
+            if (row.error() != null) {
+                reject(row.line(), row.error());
+            } else {
+                valid.add(new Row<>(row.line(), row.value()));
+            }
+        }
+        return valid;
+    }
+
+    public void reject(long line, String reason) {
+        rejected++;
+        if (rejections.size() < maxReportedRejections) {
+            rejections.add(new ImportResultDto.RejectedRowDto(line, reason));
+        }
+    }
+
+    /**
+     * Counts one processed batch and logs the progress so far
+     */
+    public void completeBatch(int rows, long importedRows) {
+        total += rows;
+        imported += importedRows;
+        log.info("{} progress: {} rows, {} imported, {} rejected ({} rows/s)",
+                name, total, imported, rejected, Math.round(rowsPerSecond()));
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public ImportResultDto finish() {
+        ImportResultDto result = ImportResultDto.builder()
+                .totalRows(total)
+                .importedRows(imported)
+                .rejectedRows(rejected)
+                .elapsedMillis(elapsedMillis())
+                .rowsPerSecond(rowsPerSecond())
+                .rejections(rejections)
+                .build();
+        log.info("{} finished: {} rows, {} imported, {} rejected in {}ms ({} rows/s)",
+                name, result.getTotalRows(), result.getImportedRows(), result.getRejectedRows(),
+                result.getElapsedMillis(), Math.round(result.getRowsPerSecond()));
+        return result;
+    }
+
+    private static <T> Parsed<T> parse(Line line, RowParser<T> parser, Validator validator) {
+        T value;
+        try {
+            value = parser.parse(line.text());
+        } catch (Exception e) {
+            return new Parsed<>(line.number(), null, "Malformed row: " + e.getMessage());
+        }
+
+        Set<ConstraintViolation<T>> violations = validator.validate(value);
+        if (!violations.isEmpty()) {
+            String reason = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+            return new Parsed<>(line.number(), null, reason);
+        }
+        return new Parsed<>(line.number(), value, null);
+    }
+
+    private long elapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    private double rowsPerSecond() {
+        long elapsed = Math.max(elapsedMillis(), 1);
+        return total * 1000.0 / elapsed;
+    }
+
+    public record Line(long number, String text) {
+    }
+
+    public record Row<T>(long line, T value) {
+    }
+
+    @FunctionalInterface
+    public interface RowParser<T> {
+        T parse(String text) throws Exception;
+    }
+
+    private record Parsed<T>(long line, T value, String error) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.akshat.ecommerce.util;
+
+import com.akshat.ecommerce.exception.BadRequestException;
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset Cursor
+ * Design Pattern: Iterator Pattern (opaque continuation token)
+ * Optimization: A page resumes strictly after the last row's sort value and id,
+ * an index range scan instead of skipping over every earlier row. The position
+ * travels as URL-safe Base64 of "id:value", so clients treat it as opaque.
+ */
+public final class KeysetCursor {
+
+    private KeysetCursor() {
+    }
+
+    /**
+     * Rows to fetch for a page of the given size; the extra one tells whether
+     * another page exists
+     */
+    public static int fetchSize(int limit) {
+        return limit + 1;
+    }
+
+    /**
+     * Trims a result fetched with {@link #fetchSize} to the page and, if rows were
+     * left over, encodes the position of the page's last row.
+     */
+    public static <T> Page<T> page(List<T> fetched, int limit, Function<T, String> idOf,
+            Function<T, String> sortValueOf) {
+        if (fetched.size() <= limit) {
+            return new Page<>(fetched, null);
+        }
+        List<T> rows = fetched.subList(0, limit);
+        T last = rows.get(limit - 1);
+        return new Page<>(rows, encode(idOf.apply(last), sortValueOf.apply(last)));
+    }
+
+    /**
+     * Ids contain no colon, so the value after the first one may
+     */
+    public static String encode(String id, String sortValue) {
+        String position = id + ":" + (sortValue != null ? sortValue : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Position decode(String cursor) {
+        try {
+            String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":", 2);
+            if (position.length != 2 || !ObjectId.isValid(position[0])) {
+                throw new IllegalArgumentException(cursor);
+            }
+            return new Position(position[0], position[1]);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    public record Position(String id, String value) {
+
+        public long longValue() {
+            try {
+                return Long.parseLong(value);
+            } catch (NumberFormatException e) {
+                throw new BadRequestException("Invalid cursor");
+            }
+        }
+    }
+
+    public record Page<T>(List<T> rows, String nextCursor) {
+    }
+}
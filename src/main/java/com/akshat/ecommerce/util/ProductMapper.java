@@ -0,0 +1,28 @@
+package com.akshat.ecommerce.util;
+
+import com.akshat.ecommerce.cache.CategoryTable;
+import com.akshat.ecommerce.dto.response.ProductResponseDto;
+import com.akshat.ecommerce.model.Product;
+import lombok.RequiredArgsConstructor;
+import org.modelmapper.ModelMapper;
+import org.springframework.stereotype.Component;
+
+/**
+ * Product Mapper
+ * Design Pattern: Mapper Pattern
+ * DRY: Single place that maps products to responses, resolving the embedded
+ * category summary from the in-memory category table
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductMapper {
+
+    private final ModelMapper modelMapper;
+    private final CategoryTable categoryTable;
+
+    public ProductResponseDto toResponseDto(Product product) {
+        ProductResponseDto productResponse = modelMapper.map(product, ProductResponseDto.class);
+        productResponse.setCategory(categoryTable.resolve(product.getCategory()));
+        return productResponse;
+    }
+}
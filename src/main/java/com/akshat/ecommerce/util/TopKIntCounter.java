@@ -0,0 +1,78 @@
+package com.akshat.ecommerce.util;
+
+import java.util.Arrays;
+
+/**
+ * Bounded int-to-count map
+ * Design Pattern: Space-Saving (heavy hitters) counter
+ * Optimization: Primitive parallel arrays, no boxing; capacity grows by doubling up
+ * to a hard limit, after which the least frequent key is replaced so memory stays
+ * bounded while frequent keys survive. Not thread-safe, callers synchronize.
+ */
+public class TopKIntCounter {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private final int maxSize;
+    private int[] keys;
+    private int[] counts;
+    private int size;
+
+    public TopKIntCounter(int maxSize) {
+        this.maxSize = maxSize;
+        int capacity = Math.min(INITIAL_CAPACITY, maxSize);
+        this.keys = new int[capacity];
+        this.counts = new int[capacity];
+    }
+
+    public void increment(int key) {
+        for (int i = 0; i < size; i++) {
+            if (keys[i] == key) {
+                counts[i]++;
+                return;
+            }
+        }
+        if (size == keys.length && size < maxSize) {
+            int capacity = Math.min(size * 2, maxSize);
+            keys = Arrays.copyOf(keys, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+        }
+        if (size < keys.length) {
+            keys[size] = key;
+            counts[size] = 1;
+            size++;
+            return;
+        }
+        // Full: the newcomer inherits the minimum count (Space-Saving)
+        int min = 0;
+        for (int i = 1; i < size; i++) {
+            if (counts[i] < counts[min]) {
+                min = i;
+            }
+        }
+        keys[min] = key;
+        counts[min]++;
+    }
+
+    /**
+     * @return up to {@code n} keys, highest count first
+     */
+    public int[] top(int n) {
+        long[] packed = new long[size];
+        for (int i = 0; i < size; i++) {
+            // count in the high bits sorts by count, key in the low bits breaks ties
+            packed[i] = ((long) counts[i] << 32) | (keys[i] & 0xFFFFFFFFL);
+        }
+        Arrays.sort(packed);
+        int resultSize = Math.min(n, size);
+        int[] result = new int[resultSize];
+        for (int i = 0; i < resultSize; i++) {
+            result[i] = (int) packed[size - 1 - i];
+        }
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+}
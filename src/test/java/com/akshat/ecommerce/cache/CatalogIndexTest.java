@@ -0,0 +1,116 @@
+package com.akshat.ecommerce.cache;
+
+import com.akshat.ecommerce.model.CategorySummary;
+import com.akshat.ecommerce.model.Product;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogIndexTest {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Test
+    void replaceMergesAdditionsInSortOrderForEveryKey() {
+        CatalogIndex.SortedViews views = CatalogIndex.SortedViews.of(new Product[] {
+                product("a", "c1", 10, 4.0, 1), product("b", "c1", 30, 2.0, 2), product("c", "c1", 50, 5.0, 3)});
+
+        CatalogIndex.SortedViews merged = views.replace(Set.of("new"),
+                List.of(product("new", "c1", 40, 3.0, 0)));
+
+        assertThat(ids(merged, CatalogIndex.SortKey.PRICE)).containsExactly("a", "b", "new", "c");
+        assertThat(ids(merged, CatalogIndex.SortKey.RATING)).containsExactly("b", "new", "a", "c");
+        assertThat(ids(merged, CatalogIndex.SortKey.DATE_CREATED)).containsExactly("new", "a", "b", "c");
+    }
+
+    @Test
+    void replaceMovesAnUpdatedProductAndDropsRemovedOnes() {
+        CatalogIndex.SortedViews views = CatalogIndex.SortedViews.of(new Product[] {
+                product("a", "c1", 10, 1.0, 1), product("b", "c1", 20, 1.0, 2), product("c", "c1", 30, 1.0, 3)});
+
+        CatalogIndex.SortedViews merged = views.replace(Set.of("a", "b"), List.of(product("a", "c1", 99, 1.0, 1)));
+
+        assertThat(ids(merged, CatalogIndex.SortKey.PRICE)).containsExactly("c", "a");
+        assertThat(merged.size()).isEqualTo(2);
+    }
+
+    @Test
+    void replaceLeavesTheOriginalViewsUntouched() {
+        CatalogIndex.SortedViews views = CatalogIndex.SortedViews.of(new Product[] {
+                product("a", "c1", 10, 1.0, 1), product("b", "c1", 20, 1.0, 2)});
+
+        views.replace(Set.of("a"), List.of());
+
+        assertThat(ids(views, CatalogIndex.SortKey.PRICE)).containsExactly("a", "b");
+    }
+
+    @Test
+    void replaceBreaksTiesById() {
+        CatalogIndex.SortedViews views = CatalogIndex.SortedViews.of(new Product[] {
+                product("a", "c1", 10, 1.0, 1), product("c", "c1", 10, 1.0, 1)});
+
+        CatalogIndex.SortedViews merged = views.replace(Set.of("b"), List.of(product("b", "c1", 10, 1.0, 1)));
+
+        assertThat(ids(merged, CatalogIndex.SortKey.PRICE)).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void applyMovesAProductBetweenCategoryPartitions() {
+        CatalogIndex.Snapshot snapshot = CatalogIndex.Snapshot.build(List.of(
+                product("a", "c1", 10, 1.0, 1), product("b", "c1", 20, 1.0, 2), product("c", "c2", 30, 1.0, 3)));
+
+        CatalogIndex.Snapshot next = snapshot.apply(Set.of("b"), List.of(product("b", "c2", 25, 1.0, 2)));
+
+        assertThat(ids(next.byCategory().get("c1"), CatalogIndex.SortKey.PRICE)).containsExactly("a");
+        assertThat(ids(next.byCategory().get("c2"), CatalogIndex.SortKey.PRICE)).containsExactly("b", "c");
+        assertThat(ids(next.all(), CatalogIndex.SortKey.PRICE)).containsExactly("a", "b", "c");
+        assertThat(next.byId().get("b").getPrice()).isEqualByComparingTo("25");
+    }
+
+    @Test
+    void applyTreatsMissingChangedIdsAsDeletedAndDropsEmptyPartitions() {
+        CatalogIndex.Snapshot snapshot = CatalogIndex.Snapshot.build(List.of(
+                product("a", "c1", 10, 1.0, 1), product("b", "c2", 20, 1.0, 2)));
+
+        CatalogIndex.Snapshot next = snapshot.apply(Set.of("b"), List.of());
+
+        assertThat(next.byId()).containsOnlyKeys("a");
+        assertThat(next.byCategory()).containsOnlyKeys("c1");
+        assertThat(ids(next.all(), CatalogIndex.SortKey.PRICE)).containsExactly("a");
+    }
+
+    @Test
+    void applySharesUntouchedPartitionsAndKeepsThePreviousVersion() {
+        CatalogIndex.Snapshot snapshot = CatalogIndex.Snapshot.build(List.of(
+                product("a", "c1", 10, 1.0, 1), product("b", "c2", 20, 1.0, 2)));
+
+        CatalogIndex.Snapshot next = snapshot.apply(Set.of("new"), List.of(product("new", "c1", 5, 1.0, 3)));
+
+        assertThat(next.byCategory().get("c2")).isSameAs(snapshot.byCategory().get("c2"));
+        assertThat(ids(next.byCategory().get("c1"), CatalogIndex.SortKey.PRICE)).containsExactly("new", "a");
+        assertThat(ids(snapshot.byCategory().get("c1"), CatalogIndex.SortKey.PRICE)).containsExactly("a");
+        assertThat(snapshot.byId()).doesNotContainKey("new");
+    }
+
+    private static Product product(String id, String categoryId, int price, double rating, int day) {
+        return Product.builder()
+                .id(id)
+                .name(id)
+                .category(new CategorySummary(categoryId, categoryId))
+                .price(BigDecimal.valueOf(price))
+                .rating(rating)
+                .countInStock(1)
+                .dateCreated(EPOCH.plusDays(day))
+                .build();
+    }
+
+    private static List<String> ids(CatalogIndex.SortedViews views, CatalogIndex.SortKey key) {
+        return Arrays.stream(views.get(key)).map(Product::getId).toList();
+    }
+}
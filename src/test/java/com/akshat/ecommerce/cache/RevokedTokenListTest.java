@@ -0,0 +1,87 @@
+package com.akshat.ecommerce.cache;
+
+import com.akshat.ecommerce.model.RevokedToken;
+import com.akshat.ecommerce.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RevokedTokenListTest {
+
+    private final RevokedTokenRepository repository = mock(RevokedTokenRepository.class);
+    private final RevokedTokenList revokedTokens = new RevokedTokenList(repository);
+
+    @Test
+    void mergeAddsUnexpiredRevocations() {
+        revokedTokens.merge(List.of(revocation("a", 2_000), revocation("b", 3_000)), 1_000);
+
+        assertThat(revokedTokens.isRevoked("a")).isTrue();
+        assertThat(revokedTokens.isRevoked("b")).isTrue();
+        assertThat(revokedTokens.isRevoked("c")).isFalse();
+    }
+
+    @Test
+    void mergeIgnoresRevocationsThatAlreadyExpired() {
+        revokedTokens.merge(List.of(revocation("a", 1_000)), 1_000);
+
+        assertThat(revokedTokens.isRevoked("a")).isFalse();
+    }
+
+    @Test
+    void mergePrunesHeldRevocationsOnceTheyExpire() {
+        revokedTokens.merge(List.of(revocation("a", 2_000), revocation("b", 5_000)), 1_000);
+
+        revokedTokens.merge(List.of(), 3_000);
+
+        assertThat(revokedTokens.isRevoked("a")).isFalse();
+        assertThat(revokedTokens.isRevoked("b")).isTrue();
+    }
+
+    @Test
+    void replayingTheSameRevocationsKeepsThemRevoked() {
+        List<RevokedTokenList.Revocation> batch = List.of(revocation("a", 5_000), revocation("b", 5_000));
+        revokedTokens.merge(batch, 1_000);
+
+        revokedTokens.merge(batch, 2_000);
+        revokedTokens.merge(List.of(revocation("b", 5_000), revocation("c", 5_000)), 2_000);
+
+        assertThat(revokedTokens.isRevoked("a")).isTrue();
+        assertThat(revokedTokens.isRevoked("b")).isTrue();
+        assertThat(revokedTokens.isRevoked("c")).isTrue();
+    }
+
+    @Test
+    void pollRereadsTheOverlapBeforeTheLastPollAndMergesIt() {
+        LocalDateTime expiresAt = LocalDateTime.now().plusHours(1);
+        when(repository.findAll()).thenReturn(List.of(token("a", expiresAt)));
+        when(repository.findByRevokedAtGreaterThanEqual(any()))
+                .thenReturn(List.of(token("a", expiresAt), token("b", expiresAt)));
+
+        LocalDateTime beforeFirstPoll = LocalDateTime.now();
+        revokedTokens.poll();
+        LocalDateTime afterFirstPoll = LocalDateTime.now();
+        revokedTokens.poll();
+
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(repository).findByRevokedAtGreaterThanEqual(since.capture());
+        assertThat(since.getValue()).isBetween(beforeFirstPoll.minusSeconds(10), afterFirstPoll.minusSeconds(10));
+        assertThat(revokedTokens.isRevoked("a")).isTrue();
+        assertThat(revokedTokens.isRevoked("b")).isTrue();
+    }
+
+    private static RevokedTokenList.Revocation revocation(String tokenId, long expiresAt) {
+        return new RevokedTokenList.Revocation(tokenId, expiresAt);
+    }
+
+    private static RevokedToken token(String id, LocalDateTime expiresAt) {
+        return RevokedToken.builder().id(id).revokedAt(LocalDateTime.now()).expiresAt(expiresAt).build();
+    }
+}
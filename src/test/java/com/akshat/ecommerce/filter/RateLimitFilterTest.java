@@ -0,0 +1,134 @@
+package com.akshat.ecommerce.filter;
+
+import com.akshat.ecommerce.config.AppConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimitFilterTest {
+
+    // 10 requests per second, bursts of 5: one token every 100ms
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long START = 1_000_000_000L;
+
+    private final AppConfig appConfig = new AppConfig();
+
+    @Test
+    void admitsAFullBurstAtOnceThenRejects() {
+        RateLimitFilter.RouteGroup group = group(10, 5);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(group.tryAcquire("client", START)).isZero();
+        }
+        assertThat(group.tryAcquire("client", START)).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    void retryAfterCountsDownToTheNextToken() {
+        RateLimitFilter.RouteGroup group = group(10, 5);
+        exhaust(group, "client", START);
+
+        assertThat(group.tryAcquire("client", START + INTERVAL / 4)).isEqualTo(INTERVAL * 3 / 4);
+        assertThat(group.tryAcquire("client", START + INTERVAL)).isZero();
+        assertThat(group.tryAcquire("client", START + INTERVAL)).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    void rejectedRequestsDoNotConsumeTokens() {
+        RateLimitFilter.RouteGroup group = group(10, 5);
+        exhaust(group, "client", START);
+
+        for (int i = 0; i < 10; i++) {
+            group.tryAcquire("client", START + 1);
+        }
+
+        assertThat(group.tryAcquire("client", START + INTERVAL)).isZero();
+    }
+
+    @Test
+    void refillsToTheBurstButNoFurther() {
+        RateLimitFilter.RouteGroup group = group(10, 5);
+        exhaust(group, "client", START);
+
+        long later = START + TimeUnit.MINUTES.toNanos(1);
+        for (int i = 0; i < 5; i++) {
+            assertThat(group.tryAcquire("client", later)).isZero();
+        }
+        assertThat(group.tryAcquire("client", later)).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    void zeroBurstStillAdmitsOneRequestPerInterval() {
+        RateLimitFilter.RouteGroup group = group(10, 0);
+
+        assertThat(group.tryAcquire("client", START)).isZero();
+        assertThat(group.tryAcquire("client", START)).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    void rejectsGroupsWithoutAPositiveRateOrWithANegativeBurst() {
+        assertThatThrownBy(() -> group(0, 5))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("requests-per-second");
+        assertThatThrownBy(() -> group(-1, 5)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> group(Double.NaN, 5)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> group(10, -1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("burst");
+    }
+
+    @Test
+    void clientsHaveIndependentBuckets() {
+        RateLimitFilter.RouteGroup group = group(10, 5);
+        exhaust(group, "a", START);
+
+        assertThat(group.tryAcquire("a", START)).isPositive();
+        assertThat(group.tryAcquire("b", START)).isZero();
+    }
+
+    @Test
+    void evictsFullBucketsFirstWhenOverTheClientBound() {
+        appConfig.getRateLimit().setMaxClients(2);
+        RateLimitFilter.RouteGroup group = group(10, 5);
+        group.tryAcquire("idle", START);
+        long later = START + TimeUnit.SECONDS.toNanos(1);
+        exhaust(group, "busy", later);
+
+        assertThat(group.tryAcquire("new", later)).isZero();
+
+        assertThat(group.buckets).containsOnlyKeys("busy", "new");
+        assertThat(group.tryAcquire("busy", later)).isPositive();
+    }
+
+    @Test
+    void trimsToTheClientBoundWhenEveryBucketIsInUse() {
+        appConfig.getRateLimit().setMaxClients(2);
+        RateLimitFilter.RouteGroup group = group(10, 5);
+
+        for (String client : List.of("a", "b", "c", "d")) {
+            assertThat(group.tryAcquire(client, START)).isZero();
+        }
+
+        assertThat(group.buckets).hasSizeLessThanOrEqualTo(2);
+    }
+
+    private RateLimitFilter.RouteGroup group(double requestsPerSecond, int burst) {
+        AppConfig.RateLimit.Group settings = new AppConfig.RateLimit.Group();
+        settings.setPaths(List.of("/test/**"));
+        settings.setRequestsPerSecond(requestsPerSecond);
+        settings.setBurst(burst);
+        RateLimitFilter filter = new RateLimitFilter(appConfig, "/api/v1", new ObjectMapper());
+        return filter.new RouteGroup("test", settings);
+    }
+
+    private static void exhaust(RateLimitFilter.RouteGroup group, String client, long now) {
+        while (group.tryAcquire(client, now) == 0) {
+            // drain the burst
+        }
+    }
+}
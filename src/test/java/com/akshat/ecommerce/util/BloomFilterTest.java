@@ -0,0 +1,56 @@
+package com.akshat.ecommerce.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    private static final int KEYS = 10_000;
+
+    @Test
+    void neverReportsAnAddedKeyAsAbsent() {
+        List<String> keys = randomKeys(KEYS);
+        BloomFilter filter = BloomFilter.of(keys, KEYS);
+
+        assertThat(keys).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void keepsTheFalsePositiveRateNearOnePercentAtTheExpectedSize() {
+        BloomFilter filter = BloomFilter.of(randomKeys(KEYS), KEYS);
+
+        long falsePositives = randomKeys(100_000).stream().filter(filter::mightContain).count();
+
+        // Sized for 1%; 2% leaves room for sampling noise, a broken hash lands far above
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    void similarKeysDoNotCollide() {
+        List<String> keys = IntStream.range(0, KEYS).mapToObj(i -> "token-" + i).toList();
+        BloomFilter filter = BloomFilter.of(keys, KEYS);
+
+        long falsePositives = IntStream.range(KEYS, KEYS + 100_000)
+                .filter(i -> filter.mightContain("token-" + i))
+                .count();
+
+        assertThat(keys).allMatch(filter::mightContain);
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = BloomFilter.of(List.of(), 0);
+
+        assertThat(randomKeys(1_000)).noneMatch(filter::mightContain);
+    }
+
+    private static List<String> randomKeys(int count) {
+        return IntStream.range(0, count).mapToObj(i -> UUID.randomUUID().toString()).toList();
+    }
+}
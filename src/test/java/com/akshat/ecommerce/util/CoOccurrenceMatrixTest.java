@@ -0,0 +1,90 @@
+package com.akshat.ecommerce.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoOccurrenceMatrixTest {
+
+    @Test
+    void relatedRanksProductsByHowOftenTheyWereBoughtTogether() {
+        CoOccurrenceMatrix matrix = new CoOccurrenceMatrix(8, 100);
+        matrix.add(List.of("a", "b", "c"), 50);
+        matrix.add(List.of("a", "c"), 50);
+        matrix.add(List.of("a", "c", "d"), 50);
+
+        assertThat(matrix.related("a", 3)).containsExactly("c", "d", "b");
+        assertThat(matrix.related("c", 1)).containsExactly("a");
+        assertThat(matrix.related("b", 5)).containsExactlyInAnyOrder("a", "c");
+    }
+
+    @Test
+    void duplicatesInOneOrderCountOnceAndSingleItemOrdersAreIgnored() {
+        CoOccurrenceMatrix matrix = new CoOccurrenceMatrix(8, 100);
+        matrix.add(List.of("a", "a", "b"), 50);
+        matrix.add(List.of("a", "c"), 50);
+        matrix.add(List.of("a", "c"), 50);
+        matrix.add(List.of("z"), 50);
+
+        assertThat(matrix.related("a", 5)).containsExactly("c", "b");
+        assertThat(matrix.related("z", 5)).isEmpty();
+        assertThat(matrix.productCount()).isEqualTo(3);
+    }
+
+    @Test
+    void unknownProductHasNoRelatedProducts() {
+        assertThat(new CoOccurrenceMatrix(8, 100).related("missing", 5)).isEmpty();
+    }
+
+    @Test
+    void onlyTheFirstMaxItemsOfAnOrderArePaired() {
+        CoOccurrenceMatrix matrix = new CoOccurrenceMatrix(8, 100);
+        matrix.add(List.of("a", "b", "c", "d"), 2);
+
+        assertThat(matrix.related("a", 5)).containsExactly("b");
+        assertThat(matrix.related("c", 5)).isEmpty();
+    }
+
+    @Test
+    void productsBeyondMaxProductsAreNotTracked() {
+        CoOccurrenceMatrix matrix = new CoOccurrenceMatrix(8, 2);
+        matrix.add(List.of("a", "b", "c"), 50);
+
+        assertThat(matrix.productCount()).isEqualTo(2);
+        assertThat(matrix.related("a", 5)).containsExactly("b");
+        assertThat(matrix.related("c", 5)).isEmpty();
+    }
+
+    @Test
+    void growsPastTheInitialRowCapacity() {
+        CoOccurrenceMatrix matrix = new CoOccurrenceMatrix(4, 10_000);
+        for (int i = 0; i < 3000; i++) {
+            matrix.add(List.of("hub", "p" + i), 50);
+        }
+
+        assertThat(matrix.productCount()).isEqualTo(3001);
+        assertThat(matrix.related("p2999", 1)).containsExactly("hub");
+    }
+
+    @Test
+    void concurrentOrdersAreAllCounted() throws InterruptedException {
+        CoOccurrenceMatrix matrix = new CoOccurrenceMatrix(64, 10_000);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Runnable> orders = new ArrayList<>();
+        IntStream.range(0, 4000).forEach(i -> orders.add(() -> matrix.add(List.of("a", "b", "p" + (i % 50)), 50)));
+        orders.forEach(pool::execute);
+        pool.shutdown();
+        assertThat(pool.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(matrix.productCount()).isEqualTo(52);
+        // a and b were bought together in every order, far more than with any p
+        assertThat(matrix.related("a", 1)).containsExactly("b");
+    }
+}
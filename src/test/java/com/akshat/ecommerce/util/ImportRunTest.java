@@ -0,0 +1,99 @@
+package com.akshat.ecommerce.util;
+
+import com.akshat.ecommerce.dto.response.ImportResultDto;
+import com.akshat.ecommerce.exception.BadRequestException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImportRunTest {
+
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Test
+    void batchesNonBlankLinesAndKeepsFileLineNumbers() throws IOException {
+        ImportRun run = new ImportRun("Test import", 10);
+        List<List<ImportRun.Line>> batches = new ArrayList<>();
+
+        run.forEachBatch(reader("a\n\nb\nc\n   \nd\ne\n"), 1, 2, batches::add);
+
+        assertThat(batches).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(batches.get(0)).containsExactly(new ImportRun.Line(2, "a"), new ImportRun.Line(4, "b"));
+        assertThat(batches.get(2)).containsExactly(new ImportRun.Line(8, "e"));
+    }
+
+    @Test
+    void emptyInputHandsOnNoBatch() throws IOException {
+        List<List<ImportRun.Line>> batches = new ArrayList<>();
+
+        new ImportRun("Test import", 10).forEachBatch(reader("\n\n"), 0, 5, batches::add);
+
+        assertThat(batches).isEmpty();
+    }
+
+    @Test
+    void parseValidRejectsMalformedAndInvalidRowsAndKeepsOrder() {
+        ImportRun run = new ImportRun("Test import", 10);
+        List<ImportRun.Line> batch = List.of(
+                new ImportRun.Line(1, "alice,3"), new ImportRun.Line(2, "bob"), new ImportRun.Line(3, ",-1"),
+                new ImportRun.Line(4, "carol,5"));
+
+        List<ImportRun.Row<Item>> rows = run.parseValid(batch, ImportRunTest::parse, VALIDATOR);
+        run.completeBatch(batch.size(), rows.size());
+        ImportResultDto result = run.finish();
+
+        assertThat(rows).extracting(ImportRun.Row::line).containsExactly(1L, 4L);
+        assertThat(rows).extracting(row -> row.value().name()).containsExactly("alice", "carol");
+        assertThat(result.getTotalRows()).isEqualTo(4);
+        assertThat(result.getImportedRows()).isEqualTo(2);
+        assertThat(result.getRejectedRows()).isEqualTo(2);
+        assertThat(result.getRejections()).extracting(ImportResultDto.RejectedRowDto::getRow).containsExactly(2L, 3L);
+        assertThat(result.getRejections().get(0).getReason()).startsWith("Malformed row: ");
+        assertThat(result.getRejections().get(1).getReason()).isEqualTo(
+                "name: must not be blank; quantity: must be greater than or equal to 0");
+    }
+
+    @Test
+    void reportsOnlyTheFirstRejectionsButCountsAll() {
+        ImportRun run = new ImportRun("Test import", 2);
+        for (int line = 1; line <= 5; line++) {
+            run.reject(line, "bad");
+        }
+
+        ImportResultDto result = run.finish();
+
+        assertThat(result.getRejectedRows()).isEqualTo(5);
+        assertThat(result.getRejections()).hasSize(2);
+    }
+
+    @Test
+    void resolvesTheBatchSizeWithinBounds() {
+        assertThat(ImportRun.resolveBatchSize(null, 100, 1000)).isEqualTo(100);
+        assertThat(ImportRun.resolveBatchSize(1000, 100, 1000)).isEqualTo(1000);
+        assertThatThrownBy(() -> ImportRun.resolveBatchSize(0, 100, 1000)).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> ImportRun.resolveBatchSize(1001, 100, 1000)).isInstanceOf(BadRequestException.class);
+    }
+
+    private static BufferedReader reader(String text) {
+        return new BufferedReader(new StringReader(text));
+    }
+
+    private static Item parse(String text) {
+        String[] fields = text.split(",", -1);
+        return new Item(fields[0], Integer.parseInt(fields[1]));
+    }
+
+    private record Item(@NotBlank String name, @Min(0) int quantity) {
+    }
+}
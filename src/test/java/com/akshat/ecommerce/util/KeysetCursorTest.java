@@ -0,0 +1,70 @@
+package com.akshat.ecommerce.util;
+
+import com.akshat.ecommerce.exception.BadRequestException;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    private static final String ID = new ObjectId().toHexString();
+
+    @Test
+    void roundTripsValuesContainingColons() {
+        KeysetCursor.Position position = KeysetCursor.decode(KeysetCursor.encode(ID, "a:b:c"));
+
+        assertThat(position.id()).isEqualTo(ID);
+        assertThat(position.value()).isEqualTo("a:b:c");
+    }
+
+    @Test
+    void encodesANullValueAsEmpty() {
+        assertThat(KeysetCursor.decode(KeysetCursor.encode(ID, null)).value()).isEmpty();
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not base64!")).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(raw("no-colon"))).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(raw("not-an-id:value")))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(KeysetCursor.encode(ID, "abc")).longValue())
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void pageWithoutTheExtraRowHasNoNextCursor() {
+        KeysetCursor.Page<String> page = KeysetCursor.page(List.of("a", "b"), 2, Function.identity(), row -> row);
+
+        assertThat(page.rows()).containsExactly("a", "b");
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void pageTrimsTheExtraRowAndPointsAfterTheLastKeptOne() {
+        List<Item> fetched = List.of(new Item(new ObjectId().toHexString(), 30), new Item(ID, 20),
+                new Item(new ObjectId().toHexString(), 10));
+
+        KeysetCursor.Page<Item> page = KeysetCursor.page(fetched, 2, Item::id,
+                item -> Long.toString(item.sortKey()));
+
+        assertThat(page.rows()).containsExactly(fetched.get(0), fetched.get(1));
+        KeysetCursor.Position next = KeysetCursor.decode(page.nextCursor());
+        assertThat(next.id()).isEqualTo(ID);
+        assertThat(next.longValue()).isEqualTo(20);
+    }
+
+    private static String raw(String position) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private record Item(String id, long sortKey) {
+    }
+}
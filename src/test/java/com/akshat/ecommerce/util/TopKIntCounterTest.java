@@ -0,0 +1,68 @@
+package com.akshat.ecommerce.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopKIntCounterTest {
+
+    @Test
+    void topReturnsKeysByDescendingCount() {
+        TopKIntCounter counter = new TopKIntCounter(8);
+        increment(counter, 1, 3);
+        increment(counter, 2, 5);
+        increment(counter, 3, 1);
+
+        assertThat(counter.top(3)).containsExactly(2, 1, 3);
+        assertThat(counter.top(2)).containsExactly(2, 1);
+        assertThat(counter.top(10)).hasSize(3);
+    }
+
+    @Test
+    void growsPastTheInitialCapacityUpToMaxSize() {
+        TopKIntCounter counter = new TopKIntCounter(6);
+        for (int key = 0; key < 6; key++) {
+            increment(counter, key, key + 1);
+        }
+
+        assertThat(counter.size()).isEqualTo(6);
+        assertThat(counter.top(6)).containsExactly(5, 4, 3, 2, 1, 0);
+    }
+
+    @Test
+    void fullCounterReplacesTheMinimumAndInheritsItsCount() {
+        TopKIntCounter counter = new TopKIntCounter(2);
+        increment(counter, 1, 5);
+        increment(counter, 2, 2);
+
+        counter.increment(3);
+
+        assertThat(counter.size()).isEqualTo(2);
+        // 3 took over key 2's slot with count 2 + 1
+        assertThat(counter.top(2)).containsExactly(1, 3);
+    }
+
+    @Test
+    void keysAboveTheSpaceSavingBoundSurviveAStreamOfOneOffKeys() {
+        TopKIntCounter counter = new TopKIntCounter(4);
+        // 200 of 700 increments is above total / maxSize, so the key is guaranteed to stay
+        increment(counter, 7, 200);
+        for (int key = 1000; key < 1500; key++) {
+            counter.increment(key);
+        }
+
+        assertThat(counter.size()).isEqualTo(4);
+        assertThat(counter.top(1)).containsExactly(7);
+    }
+
+    @Test
+    void emptyCounterHasNoTopKeys() {
+        assertThat(new TopKIntCounter(4).top(3)).isEmpty();
+    }
+
+    private static void increment(TopKIntCounter counter, int key, int times) {
+        for (int i = 0; i < times; i++) {
+            counter.increment(key);
+        }
+    }
+}